@@ -0,0 +1,50 @@
+package com.ian.tablereservation.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게/예약 번호 발급 비용을 비교합니다.
+ * - uuid: 기존 방식 (UUID.randomUUID의 상위 64비트 절댓값, 호출마다 SecureRandom 사용)
+ * - snowflake: 현재 방식 (CAS 한 번, 할당 없음)
+ * *Contended는 4개 스레드가 하나의 발급기를 공유할 때의 비용입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=IdGeneratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    @Benchmark
+    public long uuid() {
+        return Math.abs(UUID.randomUUID().getMostSignificantBits());
+    }
+
+    @Benchmark
+    public long snowflake() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long uuidContended() {
+        return Math.abs(UUID.randomUUID().getMostSignificantBits());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long snowflakeContended() {
+        return generator.nextId();
+    }
+}
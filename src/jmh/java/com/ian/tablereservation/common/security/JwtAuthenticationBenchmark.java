@@ -0,0 +1,103 @@
+package com.ian.tablereservation.common.security;
+
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.user.domain.UserPrincipalView;
+import com.ian.tablereservation.user.domain.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 수행하는 토큰 검증 경로의 비용을 측정합니다.
+ * - legacyDoubleParse: 기존 방식 (요청마다 파서 생성, 검증/사용자명 조회에서 각각 파싱)
+ * - singleParse: 미리 만든 파서로 한 번만 파싱 (검증 캐시 미스 시 비용)
+ * - cachedVerify: 현재 필터 경로 (검증 캐시 적중)
+ * 사용자 조회는 모두 인증 주체 캐시를 거치므로 토큰 처리 비용만 비교됩니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String PHONE = "01012345678";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider jwtTokenProvider;
+    private CustomUserDetailsService customUserDetailsService;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+        secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        parser = Jwts.parser().verifyWith(secretKey).build();
+
+        UserPrincipalView user = new UserPrincipalView() {
+            public Long getId() { return 1L; }
+            public String getPhone() { return PHONE; }
+            public Role getRole() { return Role.ROLE_USER; }
+            public String getPassword() { return "password"; }
+        };
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> method.getName().equals("findPrincipalByPhone") ? Optional.of(user) : null
+        );
+        customUserDetailsService = new CustomUserDetailsService(userRepository, new SimpleMeterRegistry(), 100, 60);
+
+        jwtTokenProvider = new JwtTokenProvider(customUserDetailsService);
+        Field secretField = JwtTokenProvider.class.getDeclaredField("secretKeyString");
+        secretField.setAccessible(true);
+        secretField.set(jwtTokenProvider, secret);
+        jwtTokenProvider.init();
+
+        token = jwtTokenProvider.generateToken(PHONE, Role.ROLE_USER);
+    }
+
+    @Benchmark
+    public Authentication legacyDoubleParse() {
+        Claims validated = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        if (validated.getExpiration().before(new Date())) {
+            return null;
+        }
+
+        String phone = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(phone);
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    @Benchmark
+    public Optional<Authentication> cachedVerify() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.domain.StoreCompletionView;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게 10만 개를 색인한 상태에서 자동 완성 조회 비용을 측정합니다.
+ * - singleInitial: 자음 한 글자 (범위가 가장 넓지만 짧은 접두사 결과가 보관되는 경우)
+ * - wideSyllable: 보관 대상이 아닌 넓은 범위 ("성"으로 시작하는 이름 전체를 훑는 경우)
+ * - partialSyllable: 입력 중인 글자 ("강ㄴ")
+ * - longPrefix: 좁은 범위의 긴 접두사
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=StoreAutocompleteIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreAutocompleteIndexBenchmark {
+
+    private static final int STORES = 100_000;
+    private static final String[] AREAS = {"강남", "홍대", "신촌", "종로", "해운대", "서면", "성수", "이태원", "잠실", "판교"};
+    private static final String[] FOODS = {"순대국", "파스타", "치킨", "초밥", "떡볶이", "냉면", "삼겹살", "버거", "칼국수", "쌀국수"};
+
+    private StoreAutocompleteIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<StoreCompletionView> stores = new ArrayList<>(STORES);
+        for (long id = 1; id <= STORES; id++) {
+            String name = AREAS[random.nextInt(AREAS.length)] + " " + FOODS[random.nextInt(FOODS.length)] + " " + id;
+            stores.add(view(id, name, Math.round(random.nextDouble() * 50) / 10.0));
+        }
+
+        StoreRepository storeRepository = (StoreRepository) Proxy.newProxyInstance(
+                StoreRepository.class.getClassLoader(),
+                new Class<?>[]{StoreRepository.class},
+                (proxy, method, args) -> (Long) args[0] == 0L ? stores : List.of()
+        );
+        index = new StoreAutocompleteIndex(storeRepository, new SimpleMeterRegistry(), STORES);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<StoreAutocompleteIndex.Completion> singleInitial() {
+        return index.complete("ㅅ", 10);
+    }
+
+    @Benchmark
+    public List<StoreAutocompleteIndex.Completion> wideSyllable() {
+        return index.complete("성", 10);
+    }
+
+    @Benchmark
+    public List<StoreAutocompleteIndex.Completion> partialSyllable() {
+        return index.complete("강ㄴ", 10);
+    }
+
+    @Benchmark
+    public List<StoreAutocompleteIndex.Completion> longPrefix() {
+        return index.complete("성수 쌀국수 12", 10);
+    }
+
+    private static StoreCompletionView view(long id, String name, double rating) {
+        return new StoreCompletionView() {
+            public Long getId() { return id; }
+            public Long getStoreId() { return id; }
+            public String getName() { return name; }
+            public Double getRating() { return rating; }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.domain.StoreRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게 10만 개를 색인한 상태에서 검색 인덱스의 조회 비용을 측정합니다.
+ * - rareName: 일부 가게 이름에만 있는 검색어
+ * - commonTerm: 주소 대부분에 나오는 흔한 검색어 (후보가 가장 많은 경우)
+ * - twoWords: 두 단어 검색어 (게시 목록 교집합)
+ * - singleCharacter: 한 글자 검색어
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=StoreSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreSearchIndexBenchmark {
+
+    private static final int STORES = 100_000;
+    private static final String[] AREAS = {"강남", "홍대", "신촌", "종로", "해운대", "서면", "성수", "이태원", "잠실", "판교"};
+    private static final String[] FOODS = {"순대국", "파스타", "치킨", "초밥", "떡볶이", "냉면", "삼겹살", "버거", "칼국수", "쌀국수"};
+    private static final String[] CITIES = {"서울", "부산", "인천", "대구", "경기"};
+
+    private StoreSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        StoreRepository storeRepository = (StoreRepository) Proxy.newProxyInstance(
+                StoreRepository.class.getClassLoader(),
+                new Class<?>[]{StoreRepository.class},
+                (proxy, method, args) -> List.of()
+        );
+        index = new StoreSearchIndex(storeRepository);
+        index.rebuild();
+
+        Random random = new Random(42);
+        for (long storeId = 1; storeId <= STORES; storeId++) {
+            String area = AREAS[random.nextInt(AREAS.length)];
+            String food = FOODS[random.nextInt(FOODS.length)];
+            String city = CITIES[random.nextInt(CITIES.length)];
+            index.put(
+                    storeId,
+                    area + " " + food + " " + storeId + "호점",
+                    city + " " + area + "구 " + random.nextInt(500) + "번길 " + random.nextInt(100),
+                    area + "에서 " + random.nextInt(30) + "년째 " + food + "을 만드는 가게"
+            );
+        }
+    }
+
+    @Benchmark
+    public List<StoreSearchIndex.Hit> rareName() {
+        return index.search("12345호점", 20, null);
+    }
+
+    @Benchmark
+    public List<StoreSearchIndex.Hit> commonTerm() {
+        return index.search("서울", 20, null);
+    }
+
+    @Benchmark
+    public List<StoreSearchIndex.Hit> twoWords() {
+        return index.search("성수 쌀국수", 20, null);
+    }
+
+    @Benchmark
+    public List<StoreSearchIndex.Hit> singleCharacter() {
+        return index.search("초", 20, null);
+    }
+}
@@ -1,7 +1,9 @@
 package com.ian.tablereservation.auth.application;
 
 import com.ian.tablereservation.auth.dto.AuthDto;
+import com.ian.tablereservation.common.security.CustomUserDetailsService;
 import com.ian.tablereservation.common.security.JwtTokenProvider;
+import com.ian.tablereservation.common.support.Transactions;
 import com.ian.tablereservation.user.domain.User;
 import com.ian.tablereservation.user.domain.UserRepository;
 import lombok.AllArgsConstructor;
@@ -20,6 +22,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
 
 
     /**
@@ -45,6 +48,7 @@ public class AuthService {
         log.debug("비밀번호 암호화 완료: 아이디={}", user.getPhone());
 
         User result = userRepository.save(user);
+        Transactions.afterCommit(() -> customUserDetailsService.evict(result.getPhone()));
 
         log.info("회원가입 성공: 사용자 ID={}, 아이디={}", result.getId(), result.getPhone());
         return AuthDto.SignUpResponse.from(result);
@@ -9,13 +9,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 엔티티 공통 컬럼입니다.
+ * ID는 엔티티별 시퀀스(MySQL에서는 시퀀스 테이블)에서 50개씩 미리 할당받아(pooled) 사용하므로
+ * INSERT마다 ID를 조회하지 않으며, JDBC 배치 INSERT가 가능합니다.
+ */
 @Getter
 @Setter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public class BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
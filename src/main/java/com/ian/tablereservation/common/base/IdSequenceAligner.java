@@ -0,0 +1,96 @@
+package com.ian.tablereservation.common.base;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 엔티티별 ID 시퀀스가 이미 저장된 행의 최대 ID보다 앞서도록 맞춥니다.
+ * IDENTITY에서 시퀀스로 전환한 기존 DB에서는 시퀀스(테이블)가 1부터 시작하여 기존 ID와 충돌하므로,
+ * 웹 서버가 요청을 받기 전에 시퀀스를 "최대 ID + 할당 크기 + 1" 이상으로 앞으로만 옮깁니다.
+ * 이미 충분히 앞선 시퀀스는 건드리지 않으므로 다른 인스턴스가 실행 중이어도 안전합니다.
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner {
+
+    private static final String VALUE_COLUMN = "next_val";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdSequenceAligner(
+            EntityManagerFactory entityManagerFactory,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+
+    @PostConstruct
+    public void align() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> align(persister, generator.getDatabaseStructure()));
+                } catch (RuntimeException e) {
+                    log.warn("ID 시퀀스 정렬 실패: 엔티티={}, 원인={}", persister.getEntityName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+
+    private void align(EntityPersister persister, DatabaseStructure structure) {
+        Object maxId = entityManager
+                .createQuery("select max(e.id) from " + persister.getEntityName() + " e")
+                .getSingleResult();
+        if (maxId == null) {
+            return;
+        }
+
+        String name = structure.getPhysicalName().render();
+        long required = ((Number) maxId).longValue() + structure.getIncrementSize() + 1;
+
+        if (structure instanceof TableStructure) {
+            int updated = entityManager
+                    .createNativeQuery("update " + name + " set " + VALUE_COLUMN + " = :required"
+                            + " where " + VALUE_COLUMN + " < :required")
+                    .setParameter("required", required)
+                    .executeUpdate();
+            if (updated > 0) {
+                log.info("ID 시퀀스 테이블 정렬: 이름={}, 다음 값={}", name, required);
+            }
+            return;
+        }
+
+        if (structure instanceof SequenceStructure) {
+            String nextValue = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(name);
+            long next = ((Number) entityManager.createNativeQuery(nextValue).getSingleResult()).longValue();
+
+            // 방금 받은 값이 할당 범위의 끝이므로, 범위의 시작이 최대 ID보다 커야 함
+            if (next - structure.getIncrementSize() + 1 <= ((Number) maxId).longValue()) {
+                entityManager.createNativeQuery("alter sequence " + name + " restart with " + required)
+                        .executeUpdate();
+                log.info("ID 시퀀스 정렬: 이름={}, 다음 값={}", name, required);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ian.tablereservation.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 크기(LRU)와 TTL로 제한되는 인메모리 캐시입니다.
+ * 적중/미스 횟수를 기록하여 메트릭으로 노출할 수 있습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedCache.this.maxSize;
+            }
+        };
+    }
+
+
+    /**
+     * 캐시된 값을 조회합니다. 만료된 항목은 제거 후 미스로 처리합니다.
+     *
+     * @return 캐시된 값, 없으면 null
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+
+            if (entry == null || entry.isExpired(System.nanoTime())) {
+                if (entry != null) {
+                    entries.remove(key);
+                }
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            return entry.value();
+        }
+    }
+
+    /**
+     * 기본 TTL로 값을 저장합니다.
+     */
+    public void put(K key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    /**
+     * 지정한 TTL로 값을 저장합니다.
+     */
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, Math.min(ttl.toNanos(), ttlNanos));
+    }
+
+    private void put(K key, V value, long ttl) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
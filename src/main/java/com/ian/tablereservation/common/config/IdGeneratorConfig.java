@@ -0,0 +1,34 @@
+package com.ian.tablereservation.common.config;
+
+import com.ian.tablereservation.common.id.IdGenerator;
+import com.ian.tablereservation.common.id.NodeIdLease;
+import com.ian.tablereservation.common.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * 가게/예약 번호 발급기입니다. 다른 구현을 빈으로 등록하면 대체됩니다.
+     * 여러 인스턴스를 운영할 때는 id.node-id를 인스턴스마다 다르게 지정하며,
+     * 지정하지 않으면 DB 임대로 다른 인스턴스가 쓰지 않는 노드 번호를 선점합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(IdGenerator.class)
+    public IdGenerator idGenerator(@Value("${id.node-id:-1}") int nodeId, NodeIdLease nodeIdLease) {
+        if (nodeId < 0) {
+            nodeId = nodeIdLease.claim(ManagementFactory.getRuntimeMXBean().getName().hashCode());
+            log.info("id.node-id가 지정되지 않아 노드 번호를 임대로 선점했습니다: 노드 번호={}", nodeId);
+        }
+
+        log.info("번호 발급기 초기화: 노드 번호={}", nodeId);
+        return new SnowflakeIdGenerator(nodeId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ian.tablereservation.common.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
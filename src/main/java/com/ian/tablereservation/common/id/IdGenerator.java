@@ -0,0 +1,13 @@
+package com.ian.tablereservation.common.id;
+
+/**
+ * 가게 번호, 예약 번호 등 외부에 노출되는 고유 번호를 발급합니다.
+ * 구현체는 스레드 안전해야 하며, 같은 노드에서 발급한 번호는 중복되지 않고 증가해야 합니다.
+ */
+public interface IdGenerator {
+
+    /**
+     * @return 0보다 큰 고유 번호
+     */
+    long nextId();
+}
@@ -0,0 +1,72 @@
+package com.ian.tablereservation.common.id;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 노드 번호를 지정하지 않은 인스턴스가 scheduler_leases 행으로 노드 번호를 선점합니다.
+ * - 노드 번호마다 "id-node-{번호}" 임대를 두고, 비어 있거나 만료된 번호 하나를 가져감
+ * - 보유 중에는 주기적으로 임대를 연장하며, 종료 시 반납하여 다음 기동에서 바로 재사용
+ * - 인스턴스가 죽으면 임대 기간이 지난 뒤에야 다른 인스턴스가 같은 번호를 가져갈 수 있음
+ */
+@Slf4j
+@Component
+public class NodeIdLease {
+
+    private static final String LEASE_PREFIX = "id-node-";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+
+    private final SchedulerLeaseManager leaseManager;
+    private volatile String leaseName;
+
+    public NodeIdLease(SchedulerLeaseManager leaseManager) {
+        this.leaseManager = leaseManager;
+    }
+
+
+    /**
+     * 사용 가능한 노드 번호를 선점합니다. 인스턴스마다 다른 번호부터 찾아 동시 기동 시의 경합을 줄입니다.
+     *
+     * @param startFrom 탐색을 시작할 노드 번호
+     * @return 선점한 노드 번호
+     * @throws IllegalStateException 모든 노드 번호가 다른 인스턴스에 임대된 경우
+     */
+    public synchronized int claim(int startFrom) {
+        for (int offset = 0; offset <= SnowflakeIdGenerator.MAX_NODE_ID; offset++) {
+            int nodeId = Math.floorMod(startFrom + offset, SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            String name = LEASE_PREFIX + nodeId;
+
+            if (leaseManager.tryAcquire(name, LEASE_DURATION)) {
+                leaseName = name;
+                return nodeId;
+            }
+        }
+
+        log.error("노드 번호 선점 실패 - 사용 가능한 노드 번호 없음");
+        throw new IllegalStateException("사용 가능한 노드 번호가 없습니다. id.node-id를 지정해주세요.");
+    }
+
+    /**
+     * 1분 간격으로 선점한 노드 번호의 임대를 연장합니다.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void renew() {
+        String name = leaseName;
+        if (name != null && !leaseManager.tryAcquire(name, LEASE_DURATION)) {
+            log.error("노드 번호 임대 연장 실패 - 다른 인스턴스와 번호가 겹칠 수 있음: 임대={}", name);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        String name = leaseName;
+        if (name != null) {
+            leaseManager.release(name);
+        }
+    }
+}
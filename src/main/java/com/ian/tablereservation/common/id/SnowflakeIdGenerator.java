@@ -0,0 +1,81 @@
+package com.ian.tablereservation.common.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 증가하는 64비트 번호를 발급합니다. (Snowflake 방식)
+ * <pre>
+ * | 0 (부호) | 41비트: 기준 시각 이후 밀리초 | 10비트: 노드 번호 | 12비트: 밀리초 내 순번 |
+ * </pre>
+ * - (밀리초, 순번)을 하나의 AtomicLong에 담아 CAS로 갱신하므로 잠금과 객체 할당이 없음
+ * - 한 밀리초에 4096개를 넘으면 다음 밀리초를 미리 당겨 쓰며, 시계가 뒤로 가도 마지막 값에서 계속 증가
+ * - 노드 번호가 다른 인스턴스끼리는 충돌하지 않으므로 인스턴스마다 서로 다른 노드 번호를 지정해야 함
+ * 시간 순으로 증가하므로 유니크 인덱스에 오른쪽 끝으로만 삽입됩니다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    /**
+     * 2025-01-01T00:00:00Z, 이후 약 69년 동안 발급 가능
+     */
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+
+    // 상위 비트는 기준 시각 이후 밀리초, 하위 SEQUENCE_BITS 비트는 순번
+    private final AtomicLong state;
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다.");
+        }
+
+        this.node = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+        this.state = new AtomicLong(elapsed() << SEQUENCE_BITS);
+    }
+
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long last = state.get();
+            long next = Math.max(elapsed() << SEQUENCE_BITS, last + 1);
+
+            if (state.compareAndSet(last, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return millis << (NODE_BITS + SEQUENCE_BITS) | node | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 번호에 담긴 발급 시각을 추출합니다.
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * 번호를 발급한 노드 번호를 추출합니다.
+     */
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+
+    private long elapsed() {
+        return clock.getAsLong() - EPOCH_MILLIS;
+    }
+}
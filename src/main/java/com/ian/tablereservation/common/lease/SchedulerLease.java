@@ -0,0 +1,34 @@
+package com.ian.tablereservation.common.lease;
+
+import com.ian.tablereservation.common.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스 중 하나만 스케줄 작업을 실행하도록 하는 DB 임대(lease) 행입니다.
+ * 임대 기간이 지나면 다른 인스턴스가 조건부 UPDATE로 소유권을 가져갈 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,82 @@
+package com.ian.tablereservation.common.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업의 클러스터 단일 실행을 보장하는 임대 관리자입니다.
+ * 작업마다 scheduler_leases 테이블의 한 행을 조건부 UPDATE로 선점하며,
+ * 소유자가 죽더라도 임대 기간이 지나면 다른 인스턴스가 이어받습니다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final TransactionTemplate requiresNew;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    public SchedulerLeaseManager(
+            SchedulerLeaseRepository leaseRepository, PlatformTransactionManager transactionManager
+    ) {
+        this.leaseRepository = leaseRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+
+    /**
+     * 임대를 획득하거나 연장합니다.
+     *
+     * @param name     작업 이름
+     * @param duration 임대 기간 (작업 주기보다 길게 잡아야 소유자가 유지됨)
+     * @return 이 인스턴스가 임대를 보유하면 true
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(duration);
+
+        try {
+            Integer updated = requiresNew.execute(status -> leaseRepository.tryAcquire(name, owner, now, until));
+            if (updated != null && updated > 0) {
+                return true;
+            }
+
+            // 행이 있으면 다른 인스턴스가 보유 중이므로 INSERT하지 않음 (매 주기 유니크 키 위반과 ID 낭비 방지)
+            // 행이 없으면 최초 생성자가 소유, 동시에 생성한 쪽만 유니크 키 위반으로 탈락
+            return Boolean.TRUE.equals(requiresNew.execute(status -> {
+                if (leaseRepository.existsByName(name)) {
+                    return false;
+                }
+                leaseRepository.saveAndFlush(SchedulerLease.builder()
+                        .name(name)
+                        .owner(owner)
+                        .leasedUntil(until)
+                        .build());
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("스케줄 임대 획득 실패: 작업={}, 원인={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        requiresNew.executeWithoutResult(status -> leaseRepository.release(name, owner, LocalDateTime.now()));
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
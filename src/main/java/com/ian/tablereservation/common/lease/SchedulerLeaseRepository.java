@@ -0,0 +1,37 @@
+package com.ian.tablereservation.common.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, Long> {
+
+    /**
+     * 임대가 만료되었거나 이미 자신이 소유한 경우에만 소유권을 갱신합니다.
+     *
+     * @return 갱신된 행 수 (1이면 획득 성공)
+     */
+    @Modifying
+    @Query("""
+            update SchedulerLease l
+            set l.owner = :owner, l.leasedUntil = :until
+            where l.name = :name
+            and (l.owner = :owner or l.leasedUntil < :now)
+            """)
+    int tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime until);
+
+    boolean existsByName(String name);
+
+    @Modifying
+    @Query("""
+            update SchedulerLease l
+            set l.leasedUntil = :now
+            where l.name = :name
+            and l.owner = :owner
+            """)
+    int release(String name, String owner, LocalDateTime now);
+}
@@ -1,6 +1,7 @@
 package com.ian.tablereservation.common.security;
 
-import com.ian.tablereservation.user.domain.User;
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.user.domain.UserPrincipalView;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -10,25 +11,37 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * 인증된 사용자 주체입니다.
+ * 사용자 엔티티 대신 ID, 전화번호, 역할, 비밀번호 해시만 보관하는 읽기 전용 객체이며,
+ * 엔티티 연관관계가 필요한 경우 ID로 참조를 얻어 사용합니다.
+ */
 @Getter
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String phone;
+    private final Role role;
+    private final String password;
+
+    public static CustomUserDetails from(UserPrincipalView user) {
+        return new CustomUserDetails(user.getId(), user.getPhone(), user.getRole(), user.getPassword());
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority(role.name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getPhone();
+        return phone;
     }
 
     @Override
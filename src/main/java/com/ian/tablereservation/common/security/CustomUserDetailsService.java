@@ -1,23 +1,76 @@
 package com.ian.tablereservation.common.security;
 
+import com.ian.tablereservation.common.cache.BoundedCache;
 import com.ian.tablereservation.user.domain.UserRepository;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
+/**
+ * 전화번호로 인증 주체를 조회합니다.
+ * 인증에 필요한 컬럼만 프로젝션으로 조회하며,
+ * 모든 인증 요청마다 사용자 조회 쿼리가 실행되지 않도록 조회한 주체를 짧은 TTL로 캐시합니다.
+ * 사용자 정보가 변경되면 {@link #evict(String)}로 즉시 무효화해야 합니다.
+ */
+@Slf4j
 @Service
-@AllArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final BoundedCache<String, CustomUserDetails> principals;
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.principals = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+
+        Gauge.builder("security.principal.cache.size", principals, BoundedCache::size)
+                .description("캐시된 인증 주체 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.principal.cache.requests", principals, BoundedCache::hitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.principal.cache.requests", principals, BoundedCache::missCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
 
     @Override
     public UserDetails loadUserByUsername(String phone) throws UsernameNotFoundException {
-        return userRepository.findByPhone(phone)
-                .map(CustomUserDetails::new)
+        CustomUserDetails cached = principals.get(phone);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 존재하지 않는 사용자는 캐시하지 않음 (가입 직후 바로 조회될 수 있도록)
+        CustomUserDetails principal = userRepository.findPrincipalByPhone(phone)
+                .map(CustomUserDetails::from)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+        principals.put(phone, principal);
+        return principal;
+    }
+
+    /**
+     * 사용자 정보가 변경되었을 때 캐시된 인증 주체를 제거합니다.
+     *
+     * @param phone 사용자 전화번호 (아이디)
+     */
+    public void evict(String phone) {
+        principals.invalidate(phone);
+        log.debug("인증 주체 캐시 무효화: 아이디={}", phone);
     }
 }
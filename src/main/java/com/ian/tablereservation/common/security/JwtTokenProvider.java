@@ -1,8 +1,10 @@
 package com.ian.tablereservation.common.security;
 
+import com.ian.tablereservation.common.cache.BoundedCache;
 import com.ian.tablereservation.common.enums.Role;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -17,9 +19,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
-
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * JWT 발급과 검증을 담당합니다.
+ * 검증기는 기동 시 한 번만 만들어 재사용하며(스레드 안전), 요청마다 토큰을 한 번만 파싱/검증합니다.
+ * 최근 검증한 토큰은 SHA-256 해시를 키로 만료 시각까지만 캐시하여 같은 토큰의 서명 재검증을 생략합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -27,18 +40,27 @@ public class JwtTokenProvider {
 
     private static final String KEY_ROLE = "role";
     private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
+    private static final int VERIFIED_CACHE_SIZE = 10_000;
+    private static final Duration VERIFIED_CACHE_TTL = Duration.ofMinutes(5);
 
     private final CustomUserDetailsService customUserDetailsService;
 
+    private final BoundedCache<String, Claims> verifiedTokens =
+            new BoundedCache<>(VERIFIED_CACHE_SIZE, VERIFIED_CACHE_TTL);
+
 
     @Value("${spring.jwt.secret-key}")
     private String secretKeyString;
 
     private SecretKey secretKey;
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
         secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKeyString));
+        parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String generateToken(String phone, Role role) {
@@ -56,40 +78,68 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    private Claims getClaims(String token) {
-        log.info("토큰 파싱 처리");
-        try {
-            log.info("토큰 파싱 처리 성공");
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (ExpiredJwtException e) {
-            log.error("토큰 파싱 처리 중 오류 발생: {}", e.getMessage(), e);
-            return e.getClaims();
+    /**
+     * 토큰을 검증하고 클레임을 반환합니다. 서명이 잘못되었거나 만료된 토큰은 빈 값을 반환합니다.
+     *
+     * @param token 순수 JWT 문자열
+     * @return 검증된 클레임
+     */
+    public Optional<Claims> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
         }
-    }
 
-    public String getUsername(String token) {
-        return this.getClaims(token).getSubject();
-    }
+        String key = hash(token);
+        Claims cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return isExpired(cached) ? Optional.empty() : Optional.of(cached);
+        }
 
-    public boolean validateToken(String token) {
-        log.info("토큰 유효성 검증 처리");
-        if (!StringUtils.hasText(token)) return false;
+        Claims claims;
+        try {
+            // 만료된 토큰은 파서가 ExpiredJwtException을 던지므로 여기서 함께 걸러짐
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
 
-        var claims = getClaims(token);
+        if (claims.getExpiration() == null) {
+            log.warn("토큰 검증 실패: 만료 시각 없음");
+            return Optional.empty();
+        }
 
-        log.info("토큰 유효성 검증 완료");
-        return !claims.getExpiration().before(new Date());
+        Duration remaining = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
+        if (remaining.isPositive()) {
+            verifiedTokens.put(key, claims, remaining);
+        }
+        return Optional.of(claims);
     }
 
+    /**
+     * 토큰을 한 번 검증하여 인증 정보를 만듭니다.
+     *
+     * @param token 순수 JWT 문자열
+     * @return 인증 정보, 유효하지 않은 토큰이면 빈 값
+     */
+    public Optional<Authentication> getAuthentication(String token) {
+        return verify(token).map(claims -> {
+            UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        });
+    }
 
-    public Authentication getAuthentication(String jwt) {
-        String phone = getUsername(jwt);
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(phone);
 
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
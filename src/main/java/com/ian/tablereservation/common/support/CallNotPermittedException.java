@@ -0,0 +1,12 @@
+package com.ian.tablereservation.common.support;
+
+/**
+ * 서킷 브레이커나 동시 호출 한도(bulkhead) 때문에 외부 호출을 시도조차 하지 않은 경우의 예외입니다.
+ * 호출이 실제로 실패한 경우와 구분하여, 재시도 측에서 시도 횟수로 세지 않도록 하기 위함입니다.
+ */
+public class CallNotPermittedException extends IllegalStateException {
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ian.tablereservation.common.support;
+
+import java.time.Duration;
+
+/**
+ * 외부 연동용 간단한 서킷 브레이커입니다.
+ * 연속 실패가 임계치에 도달하면 일정 시간 동안 호출을 차단(OPEN)하고,
+ * 대기 시간이 지나면 시험 호출 하나만 허용(HALF_OPEN)하여 성공 시 다시 닫습니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("실패 임계치는 1 이상이어야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+
+    /**
+     * 호출을 시도해도 되는지 확인합니다.
+     * OPEN 상태에서 대기 시간이 지났다면 HALF_OPEN으로 전환하고 한 번의 시험 호출을 허용합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (System.nanoTime() - openedAt < openNanos) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
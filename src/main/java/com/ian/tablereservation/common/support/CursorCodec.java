@@ -0,0 +1,47 @@
+package com.ian.tablereservation.common.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서를 URL에 안전한 문자열로 인코딩/디코딩합니다.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... values) {
+        String[] parts = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            parts[i] = String.valueOf(values[i]);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @param size   커서를 구성하는 값의 개수
+     * @return 디코딩된 값 배열
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static String[] decode(String cursor, int size) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+
+            if (parts.length != size) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
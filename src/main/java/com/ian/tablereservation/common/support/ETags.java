@@ -0,0 +1,48 @@
+package com.ian.tablereservation.common.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 조건부 요청(If-None-Match/If-Modified-Since) 검증에 쓰는 ETag와 Last-Modified 값을 만듭니다.
+ * ETag는 응답을 결정하는 값(가게 번호, 수정 시각 등)으로 만들어 응답 본문을 직렬화하지 않고도 비교할 수 있습니다.
+ */
+public final class ETags {
+
+    private static final String SEPARATOR = "\u001F";
+    private static final int DIGEST_BYTES = 16;
+
+    private ETags() {
+    }
+
+    /**
+     * 주어진 값들로 강한 ETag를 만듭니다. 값이 하나라도 바뀌면 다른 ETag가 됩니다.
+     *
+     * @param parts 응답을 결정하는 값들
+     * @return 따옴표로 감싼 ETag (예: "\"Zm9v...\"")
+     */
+    public static String of(Object... parts) {
+        String[] values = Arrays.stream(parts).map(String::valueOf).toArray(String[]::new);
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, DIGEST_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 수정 시각을 Last-Modified 헤더용 epoch 밀리초로 바꿉니다.
+     */
+    public static long lastModified(LocalDateTime modifiedAt) {
+        return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
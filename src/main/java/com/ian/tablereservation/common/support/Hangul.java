@@ -0,0 +1,126 @@
+package com.ian.tablereservation.common.support;
+
+/**
+ * 한글 음절을 자모 단위로 분해합니다.
+ * 입력 중인 글자("강ㄴ", "가나"의 중간 상태 "간")도 접두사로 비교할 수 있도록
+ * 겹모음/겹받침까지 기본 자모로 풀어 호환용 자모(ㄱ, ㅏ 등) 문자열로 반환합니다.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+    private static final char JAMO_END = 'ㅣ';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * 단독으로 입력된 겹자모(ㅘ, ㄳ 등)를 기본 자모로 풉니다.
+     */
+    private static final String COMPOUND_JAMO = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ", "ㄱㅅ", "ㄴㅈ", "ㄴㅎ",
+            "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+    };
+
+    private Hangul() {
+    }
+
+
+    /**
+     * 한글 음절과 겹자모를 기본 자모로 분해합니다. 한글이 아닌 문자는 그대로 둡니다.
+     *
+     * @param text 분해할 문자열
+     * @return 자모 단위 문자열 (예: "강남" → "ㄱㅏㅇㄴㅏㅁ")
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(INITIALS[index / (MEDIAL_COUNT * FINAL_COUNT)])
+                        .append(MEDIALS[index % (MEDIAL_COUNT * FINAL_COUNT) / FINAL_COUNT])
+                        .append(FINALS[index % FINAL_COUNT]);
+                continue;
+            }
+
+            int compound = COMPOUND_JAMO.indexOf(c);
+            if (compound >= 0) {
+                builder.append(COMPOUND_PARTS[compound]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. 한글이 아닌 문자는 그대로 둡니다.
+     *
+     * @param text 변환할 문자열
+     * @return 초성 문자열 (예: "강남역" → "ㄱㄴㅇ")
+     */
+    public static String initials(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(isSyllable(c) ? INITIALS[(c - SYLLABLE_BEGIN) / (MEDIAL_COUNT * FINAL_COUNT)] : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절을 포함하는지 확인합니다.
+     */
+    public static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 비어 있지 않고 자음(ㄱ~ㅎ)으로만 이루어졌는지 확인합니다. 초성 검색어 판별에 사용합니다.
+     */
+    public static boolean isConsonantsOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < CONSONANT_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 호환용 기본 자모(ㄱ~ㅣ)인지 확인합니다.
+     */
+    public static boolean isJamo(char c) {
+        return c >= CONSONANT_BEGIN && c <= JAMO_END;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
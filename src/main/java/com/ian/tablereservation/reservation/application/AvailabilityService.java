@@ -0,0 +1,192 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.cache.BoundedCache;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlotView;
+import com.ian.tablereservation.reservation.dto.AvailabilityDto;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import com.ian.tablereservation.store.table.domain.StoreTableRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ian.tablereservation.reservation.application.TableAvailabilityIndex.SLOTS_PER_DAY;
+import static com.ian.tablereservation.reservation.application.TableAvailabilityIndex.SLOT_MINUTES;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    private static final int CACHE_MAX_SIZE = 10_000;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    private final StoreRepository storeRepository;
+    private final StoreTableRepository tableRepository;
+    private final ReservationRepository reservationRepository;
+    private final TableAvailabilityIndex availabilityIndex;
+
+    private final BoundedCache<Long, List<TableInfo>> cache =
+            new BoundedCache<>(CACHE_MAX_SIZE, CACHE_TTL);
+    private final AtomicLong evictions = new AtomicLong();
+
+
+    /**
+     * 지정한 날짜에 요청 인원을 수용할 수 있는 테이블별 예약 가능 시간을 조회합니다.
+     * 가게의 테이블 목록은 가게 단위로 캐시되어 테이블 변경 시에만 무효화되며,
+     * 점유 상태는 매번 슬롯 인덱스에서 읽으므로 예약 확정/해제로 캐시를 비울 필요가 없습니다.
+     *
+     * @param storeId        가게 고유 ID
+     * @param date           조회 날짜
+     * @param numberOfPeople 예약 인원
+     * @return 테이블별 예약 가능 시간 응답
+     * @throws IllegalArgumentException 지나간 날짜이거나 인원이 올바르지 않은 경우
+     * @throws RuntimeException         가게 정보가 존재하지 않는 경우
+     */
+    public AvailabilityDto.AvailabilityResponse getAvailability(Long storeId, LocalDate date, Integer numberOfPeople) {
+        log.info("예약 가능 시간 조회 처리 시작: 가게 ID={}, 날짜={}, 인원={}", storeId, date, numberOfPeople);
+
+        if (numberOfPeople == null || numberOfPeople < 1) {
+            log.error("예약 가능 시간 조회 실패 - 잘못된 인원: {}", numberOfPeople);
+            throw new IllegalArgumentException("예약 인원은 1명 이상이어야 합니다.");
+        }
+
+        if (date.isBefore(LocalDate.now())) {
+            log.error("예약 가능 시간 조회 실패 - 과거 날짜 요청: {}", date);
+            throw new IllegalArgumentException("지나간 날짜는 조회할 수 없습니다.");
+        }
+
+        List<TableSlots> tables = loadTableSlots(storeId, date, numberOfPeople);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AvailabilityDto.TableAvailability> result = tables.stream()
+                .map(table -> toTableAvailability(table, date, now))
+                .filter(table -> !table.getTimes().isEmpty())
+                .toList();
+
+        log.info("예약 가능 시간 조회 처리 성공: 예약 가능 테이블 수={}", result.size());
+        return AvailabilityDto.AvailabilityResponse.builder()
+                .storeId(storeId)
+                .date(date)
+                .numberOfPeople(numberOfPeople)
+                .tables(result)
+                .build();
+    }
+
+
+    /**
+     * 가게의 테이블 목록 캐시를 무효화합니다.
+     *
+     * @param storeId 가게 고유 ID
+     */
+    public void evict(Long storeId) {
+        evictions.incrementAndGet();
+        cache.invalidate(storeId);
+        log.debug("예약 가능 시간 캐시 무효화: 가게 ID={}", storeId);
+    }
+
+
+    /**
+     * 수용 인원을 만족하는 테이블과 그날의 점유 비트맵을 구성합니다.
+     * 슬롯 인덱스가 준비되지 않은 경우 그날의 확정 예약을 한 번의 쿼리로 조회합니다.
+     */
+    private List<TableSlots> loadTableSlots(Long storeId, LocalDate date, Integer numberOfPeople) {
+        List<TableInfo> tables = findTables(storeId).stream()
+                .filter(table -> table.capacity() >= numberOfPeople)
+                .toList();
+
+        boolean indexed = availabilityIndex.isReady();
+        Map<Long, Long> occupied = indexed || tables.isEmpty()
+                ? Map.of()
+                : loadOccupiedSlots(storeId, date);
+
+        return tables.stream()
+                .map(table -> new TableSlots(
+                        table,
+                        indexed
+                                ? availabilityIndex.occupiedSlots(table.tableId(), date)
+                                : occupied.getOrDefault(table.tableId(), 0L)
+                ))
+                .toList();
+    }
+
+    /**
+     * 가게의 전체 테이블을 번호 순으로 조회합니다. 결과는 가게 ID 하나를 키로 캐시됩니다.
+     */
+    private List<TableInfo> findTables(Long storeId) {
+        List<TableInfo> tables = cache.get(storeId);
+        if (tables != null) {
+            return tables;
+        }
+
+        log.debug("예약 가능 시간 캐시 미스: 가게 ID={}", storeId);
+        long version = evictions.get();
+        tables = tableRepository.findByStore_StoreIdOrderByNumberAsc(storeId).stream()
+                .map(table -> new TableInfo(table.getId(), table.getNumber(), table.getCapacity()))
+                .toList();
+
+        if (tables.isEmpty() && storeRepository.findByStoreId(storeId).isEmpty()) {
+            log.error("예약 가능 시간 조회 실패 - 가게 없음: ID={}", storeId);
+            throw new RuntimeException("가게 정보를 찾을 수 없습니다.");
+        }
+
+        // 조회 도중 무효화가 일어났다면 오래된 결과일 수 있으므로 캐시하지 않음
+        if (version == evictions.get()) {
+            cache.put(storeId, tables);
+        }
+        return tables;
+    }
+
+    private Map<Long, Long> loadOccupiedSlots(Long storeId, LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        Map<Long, Long> occupied = new HashMap<>();
+        for (ReservationSlotView slot : reservationRepository.findConfirmedSlotsByStore(storeId, from, to)) {
+            for (LocalDateTime start : TableAvailabilityIndex.slotStarts(slot.getStartDateTime(), slot.getEndDateTime())) {
+                if (start.toLocalDate().equals(date)) {
+                    occupied.merge(slot.getTableId(), TableAvailabilityIndex.slotBit(start), (bits, added) -> bits | added);
+                }
+            }
+        }
+        return occupied;
+    }
+
+    private static AvailabilityDto.TableAvailability toTableAvailability(
+            TableSlots table, LocalDate date, LocalDateTime now
+    ) {
+        List<LocalTime> times = new ArrayList<>();
+
+        for (int index = 0; index < SLOTS_PER_DAY; index++) {
+            LocalTime time = LocalTime.MIDNIGHT.plusMinutes((long) index * SLOT_MINUTES);
+
+            if ((table.occupied() & (1L << index)) == 0 && LocalDateTime.of(date, time).isAfter(now)) {
+                times.add(time);
+            }
+        }
+
+        return AvailabilityDto.TableAvailability.builder()
+                .tableId(table.table().tableId())
+                .number(table.table().number())
+                .capacity(table.table().capacity())
+                .times(times)
+                .build();
+    }
+
+
+    private record TableInfo(Long tableId, Integer number, Integer capacity) {
+    }
+
+    private record TableSlots(TableInfo table, long occupied) {
+    }
+}
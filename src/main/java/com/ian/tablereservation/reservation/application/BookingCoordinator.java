@@ -0,0 +1,350 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.support.Transactions;
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlot;
+import com.ian.tablereservation.reservation.domain.ReservationSlotRepository;
+import com.ian.tablereservation.reservation.domain.SlotView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.CONFIRMED;
+
+/**
+ * 테이블 슬롯 점유(예약 확정)를 직렬화하는 코디네이터입니다.
+ * (테이블, 슬롯) 키를 스트라이프 락에 나누어 매핑하므로 같은 슬롯을 노리는 요청만 순서대로 처리되고,
+ * 서로 다른 테이블의 예약은 병렬로 처리됩니다.
+ * JVM 밖의 경쟁(다중 인스턴스)은 reservation_slots 테이블의 유니크 키가 최종적으로 막습니다.
+ */
+@Slf4j
+@Component
+public class BookingCoordinator {
+
+    private static final int STRIPES = 1024;
+    private static final long LOCK_TIMEOUT_MILLIS = 3000;
+
+    private final TableAvailabilityIndex availabilityIndex;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository slotRepository;
+    private final NoShowDueQueue noShowDueQueue;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public BookingCoordinator(
+            TableAvailabilityIndex availabilityIndex,
+            ReservationRepository reservationRepository,
+            ReservationSlotRepository slotRepository,
+            NoShowDueQueue noShowDueQueue
+    ) {
+        this.availabilityIndex = availabilityIndex;
+        this.reservationRepository = reservationRepository;
+        this.slotRepository = slotRepository;
+        this.noShowDueQueue = noShowDueQueue;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+
+    /**
+     * 테이블의 요청 시간대가 이미 확정된 예약과 겹치는지 확인합니다.
+     * 인덱스가 준비된 경우 DB 조회 없이 메모리에서 판단합니다.
+     */
+    public boolean isReserved(Long tableId, LocalDateTime start, LocalDateTime end) {
+        return availabilityIndex.isReady()
+                ? availabilityIndex.isOccupied(tableId, start, end)
+                : reservationRepository.isTableReserved(tableId, start, end);
+    }
+
+
+    /**
+     * 예약을 확정하고 슬롯을 점유합니다.
+     * 슬롯 락은 트랜잭션이 끝날 때까지 유지되므로, 다음 요청은 커밋된 점유 상태를 보고 판단합니다.
+     *
+     * @param reservation 확정할 예약
+     * @throws IllegalStateException 이미 확정된 예약과 시간이 겹치는 경우
+     */
+    public void confirm(Reservation reservation) {
+        Long tableId = reservation.getTable().getId();
+        LocalDateTime start = reservation.getStartDateTime();
+        LocalDateTime end = reservation.getEndDateTime();
+
+        List<ReentrantLock> locks = acquire(stripesOf(tableId, start, end));
+        boolean bound = bindToTransaction(locks);
+
+        try {
+            if (isReserved(tableId, start, end)) {
+                log.error("예약 확정 실패 - 이미 확정된 시간: 테이블 ID={}, 시작={}", tableId, start);
+                throw new IllegalStateException("해당 시간에는 예약이 불가능합니다.");
+            }
+
+            Long reservationId = reservation.getReservationId();
+            claimSlots(reservationId, tableId, start, end);
+            reservation.updateStatus(CONFIRMED);
+
+            Transactions.afterCommit(() -> {
+                availabilityIndex.occupy(tableId, start, end);
+                noShowDueQueue.add(reservationId, start);
+            });
+            log.debug("슬롯 점유 완료: 예약 번호={}, 테이블 ID={}, 시작={}", reservation.getReservationId(), tableId, start);
+        } finally {
+            if (!bound) {
+                unlock(locks);
+            }
+        }
+    }
+
+
+    /**
+     * 여러 승인 대기 예약을 한 번에 확정합니다.
+     * 모든 슬롯의 락을 한 번에 잡은 뒤, 이미 점유된 슬롯을 한 번의 조회로 읽어 요청 순서대로 충돌을 판정합니다.
+     * 슬롯 행이 없는 확정 예약(슬롯 테이블 도입 이전 데이터)과의 충돌은 단건 확정과 같이 isReserved로 함께 확인합니다.
+     * 같은 묶음 안에서 겹치는 예약은 먼저 나온 예약만 확정되며, 확정된 예약의 슬롯 저장과 상태 변경은 각각 한 번에 처리됩니다.
+     *
+     * @param candidates 확정할 승인 대기 예약 (요청 순서)
+     * @return 확정된 예약, 나머지는 슬롯 충돌
+     * @throws IllegalStateException 다른 인스턴스와 동시에 같은 슬롯을 점유하려 한 경우 (묶음 전체 롤백)
+     */
+    public <T extends ConfirmedReservationView> List<T> confirmAll(List<T> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<ReentrantLock> locks = acquire(candidates.stream()
+                .flatMap(c -> stripesOf(c.getTableId(), c.getStartDateTime(), c.getEndDateTime()).stream())
+                .distinct()
+                .sorted()
+                .toList());
+        boolean bound = bindToTransaction(locks);
+
+        try {
+            Set<SlotKey> occupied = findOccupied(candidates);
+            List<T> confirmed = new ArrayList<>();
+            List<ReservationSlot> slots = new ArrayList<>();
+
+            for (T candidate : candidates) {
+                List<SlotKey> keys = TableAvailabilityIndex.slotStarts(
+                                candidate.getStartDateTime(), candidate.getEndDateTime()).stream()
+                        .map(slot -> new SlotKey(candidate.getTableId(), slot))
+                        .toList();
+
+                if (keys.stream().anyMatch(occupied::contains) || isReserved(
+                        candidate.getTableId(), candidate.getStartDateTime(), candidate.getEndDateTime())) {
+                    log.warn("일괄 확정 제외 - 이미 점유된 시간: 예약 번호={}, 테이블 ID={}, 시작={}",
+                            candidate.getReservationId(), candidate.getTableId(), candidate.getStartDateTime());
+                    continue;
+                }
+
+                occupied.addAll(keys);
+                confirmed.add(candidate);
+                keys.forEach(key -> slots.add(ReservationSlot.builder()
+                        .tableId(key.tableId())
+                        .slotStart(key.slotStart())
+                        .reservationId(candidate.getReservationId())
+                        .build()));
+            }
+
+            if (confirmed.isEmpty()) {
+                return confirmed;
+            }
+
+            try {
+                slotRepository.saveAllAndFlush(slots);
+            } catch (DataIntegrityViolationException e) {
+                log.error("일괄 확정 실패 - 다른 인스턴스에서 슬롯 선점: 예약 수={}", confirmed.size());
+                throw new IllegalStateException("다른 요청과 예약 시간이 겹쳐 처리하지 못했습니다. 다시 시도해주세요.");
+            }
+
+            List<Long> ids = confirmed.stream().map(ConfirmedReservationView::getId).toList();
+            int updated = reservationRepository.updatePendingStatus(ids, CONFIRMED, LocalDateTime.now());
+            if (updated != ids.size()) {
+                log.error("일괄 확정 실패 - 상태 변경 경합: 대상={}, 변경={}", ids.size(), updated);
+                throw new IllegalStateException("다른 요청에서 예약 상태가 변경되었습니다. 다시 시도해주세요.");
+            }
+
+            Transactions.afterCommit(() -> {
+                for (T reservation : confirmed) {
+                    availabilityIndex.occupy(
+                            reservation.getTableId(), reservation.getStartDateTime(), reservation.getEndDateTime());
+                    noShowDueQueue.add(reservation.getReservationId(), reservation.getStartDateTime());
+                }
+            });
+            log.debug("일괄 슬롯 점유 완료: 확정={}, 충돌={}", confirmed.size(), candidates.size() - confirmed.size());
+            return confirmed;
+        } finally {
+            if (!bound) {
+                unlock(locks);
+            }
+        }
+    }
+
+
+    /**
+     * 확정 예약이 점유하던 슬롯을 해제합니다.
+     * 엔티티가 이후에 변경될 수 있으므로 현재 시점의 값을 캡처해 둡니다.
+     *
+     * @param reservation 슬롯을 해제할 예약
+     */
+    public void release(Reservation reservation) {
+        Long tableId = reservation.getTable().getId();
+        LocalDateTime start = reservation.getStartDateTime();
+        LocalDateTime end = reservation.getEndDateTime();
+        Long reservationId = reservation.getReservationId();
+
+        slotRepository.deleteByReservationId(reservationId);
+
+        Transactions.afterCommit(() -> {
+            availabilityIndex.release(tableId, start, end);
+            noShowDueQueue.remove(reservationId, start);
+        });
+        log.debug("슬롯 해제 예약: 예약 번호={}, 테이블 ID={}, 시작={}", reservationId, tableId, start);
+    }
+
+    /**
+     * 여러 확정 예약의 슬롯을 한 번에 해제합니다. 슬롯 행은 한 번의 벌크 DELETE로 지웁니다.
+     *
+     * @param reservations 슬롯을 해제할 예약
+     */
+    public void releaseAll(List<? extends ConfirmedReservationView> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        slotRepository.deleteByReservationIdIn(reservations.stream()
+                .map(ConfirmedReservationView::getReservationId)
+                .toList());
+
+        Transactions.afterCommit(() -> {
+            for (ConfirmedReservationView reservation : reservations) {
+                availabilityIndex.release(
+                        reservation.getTableId(), reservation.getStartDateTime(), reservation.getEndDateTime());
+                noShowDueQueue.remove(reservation.getReservationId(), reservation.getStartDateTime());
+            }
+        });
+    }
+
+
+    private void claimSlots(Long reservationId, Long tableId, LocalDateTime start, LocalDateTime end) {
+        List<ReservationSlot> slots = TableAvailabilityIndex.slotStarts(start, end).stream()
+                .map(slotStart -> ReservationSlot.builder()
+                        .tableId(tableId)
+                        .slotStart(slotStart)
+                        .reservationId(reservationId)
+                        .build())
+                .toList();
+
+        try {
+            slotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException e) {
+            log.error("예약 확정 실패 - 다른 인스턴스에서 슬롯 선점: 테이블 ID={}, 시작={}", tableId, start);
+            throw new IllegalStateException("해당 시간에는 예약이 불가능합니다.");
+        }
+    }
+
+    /**
+     * 묶음에 포함된 테이블들의 기간 내 점유 슬롯을 한 번의 조회로 읽습니다.
+     */
+    private Set<SlotKey> findOccupied(List<? extends ConfirmedReservationView> candidates) {
+        Set<Long> tableIds = candidates.stream()
+                .map(ConfirmedReservationView::getTableId)
+                .collect(Collectors.toSet());
+        LocalDateTime from = candidates.stream()
+                .map(c -> TableAvailabilityIndex.slotStarts(c.getStartDateTime(), c.getEndDateTime()))
+                .flatMap(List::stream)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        LocalDateTime to = candidates.stream()
+                .map(ConfirmedReservationView::getEndDateTime)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        return slotRepository.findOccupied(tableIds, from, to).stream()
+                .map(slot -> new SlotKey(slot.getTableId(), slot.getSlotStart()))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * 예약이 점유할 슬롯들의 스트라이프 번호를 중복 없이 오름차순으로 반환합니다.
+     */
+    private static List<Integer> stripesOf(Long tableId, LocalDateTime start, LocalDateTime end) {
+        return TableAvailabilityIndex.slotStarts(start, end).stream()
+                .map(slot -> stripeOf(tableId, slot))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private List<ReentrantLock> acquire(List<Integer> indexes) {
+        // 교착 상태를 피하기 위해 항상 스트라이프 번호 순서대로 잠금
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.size());
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(LOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    log.error("슬롯 잠금 획득 실패 - 대기 시간 초과: 잠금 수={}", indexes.size());
+                    throw new IllegalStateException("예약 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                acquired.add(lock);
+            }
+            return acquired;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(acquired);
+            throw new IllegalStateException("예약 처리가 중단되었습니다.");
+        } catch (RuntimeException e) {
+            unlock(acquired);
+            throw e;
+        }
+    }
+
+    /**
+     * 활성화된 트랜잭션이 있으면 트랜잭션 종료 시점에 락을 해제하도록 등록합니다.
+     *
+     * @return 트랜잭션에 등록되었으면 true
+     */
+    private static boolean bindToTransaction(List<ReentrantLock> locks) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(locks);
+            }
+        });
+        return true;
+    }
+
+    private static void unlock(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    private static int stripeOf(Long tableId, LocalDateTime slot) {
+        int hash = 31 * tableId.hashCode() + slot.hashCode();
+        hash ^= (hash >>> 16);
+        return hash & (STRIPES - 1);
+    }
+
+
+    private record SlotKey(Long tableId, LocalDateTime slotStart) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.tablereservation.reservation.domain.ReservationChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 예약 상태 변경 이벤트를 JSON Lines 형식으로 파일에 덧붙여 기록합니다.
+ * 한 묶음을 버퍼에 쓴 뒤 {@link #flush()}에서 한 번에 내보내며, 경로가 설정된 경우에만 활성화됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.outbox.file-sink.path")
+public class FileReservationEventSink implements ReservationEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public FileReservationEventSink(
+            ObjectMapper objectMapper,
+            @Value("${reservation.outbox.file-sink.path}") Path path
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        log.info("예약 이벤트 파일 싱크 활성화: 경로={}", path.toAbsolutePath());
+    }
+
+
+    @Override
+    public synchronized void deliver(ReservationChangedEvent event) {
+        try {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.newLine();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("예약 이벤트를 직렬화할 수 없습니다.", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태 변경 이벤트를 애플리케이션 이벤트로 발행하여
+ * {@code @EventListener(ReservationChangedEvent.class)} 리스너에게 중계기 스레드에서 순서대로 전달합니다.
+ * 리스너가 예외를 던지면 전달 실패로 처리되어 재시도됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InProcessReservationEventSink implements ReservationEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void deliver(ReservationChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
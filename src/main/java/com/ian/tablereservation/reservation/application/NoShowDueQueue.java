@@ -0,0 +1,115 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationStartView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.NO_SHOW_GRACE_MINUTES;
+
+/**
+ * 확정 예약을 노쇼 판정 시각(시작 + 유예 시간) 기준 1분 단위 버킷에 담아 두는 대기열입니다.
+ * 노쇼 처리 시 테이블 전체를 다시 훑지 않고, 판정 시각이 지난 버킷만 꺼내 처리합니다.
+ * 예약 확정/해제 커밋 이후 갱신되며, 기동 시 DB의 확정 예약으로 다시 채워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoShowDueQueue {
+
+    private final ReservationRepository reservationRepository;
+
+    private final TreeMap<LocalDateTime, Set<Long>> buckets = new TreeMap<>();
+    private int size = 0;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ReservationStartView> confirmed = reservationRepository.findConfirmedStarts();
+
+        synchronized (this) {
+            buckets.clear();
+            size = 0;
+            confirmed.forEach(view -> add(view.getReservationId(), view.getStartDateTime()));
+        }
+        log.info("노쇼 대기열 구성 완료: 확정 예약 수={}", confirmed.size());
+    }
+
+    /**
+     * 확정 예약을 판정 시각 버킷에 추가합니다.
+     */
+    public synchronized void add(Long reservationId, LocalDateTime start) {
+        if (buckets.computeIfAbsent(dueBucket(start), key -> new HashSet<>()).add(reservationId)) {
+            size++;
+        }
+    }
+
+    /**
+     * 확정이 해제된 예약을 대기열에서 제거합니다.
+     */
+    public synchronized void remove(Long reservationId, LocalDateTime start) {
+        LocalDateTime bucket = dueBucket(start);
+        Set<Long> ids = buckets.get(bucket);
+
+        if (ids != null && ids.remove(reservationId)) {
+            size--;
+            if (ids.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    /**
+     * 판정 시각이 지난 버킷을 모두 꺼냅니다. 꺼낸 예약은 대기열에서 제거됩니다.
+     *
+     * @param now 기준 시각
+     * @return 노쇼 후보 예약 번호
+     */
+    public synchronized List<Long> pollDue(LocalDateTime now) {
+        List<Long> due = new ArrayList<>();
+        Map<LocalDateTime, Set<Long>> head = buckets.headMap(now, true);
+
+        head.values().forEach(due::addAll);
+        head.clear();
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * 판정 시각이 기준 시각 이전인 버킷을 버립니다. 임대가 없는 인스턴스의 대기열이 끝없이 쌓이지 않게 할 때 사용합니다.
+     *
+     * @param cutoff 기준 시각 (이 시각 이전 버킷을 제거)
+     * @return 버린 예약 수
+     */
+    public synchronized int trimBefore(LocalDateTime cutoff) {
+        Map<LocalDateTime, Set<Long>> head = buckets.headMap(cutoff, false);
+        int trimmed = head.values().stream().mapToInt(Set::size).sum();
+
+        head.clear();
+        size -= trimmed;
+        return trimmed;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 판정 시각을 다음 분으로 올림하여, 버킷이 꺼내질 때 모든 예약이 유예 시간을 넘겼도록 합니다.
+     */
+    private static LocalDateTime dueBucket(LocalDateTime start) {
+        return start.plusMinutes(NO_SHOW_GRACE_MINUTES).truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+    }
+}
@@ -0,0 +1,199 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.ReservationEventType;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.dto.ReservationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.CANCELLED;
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.NO_SHOW_GRACE_MINUTES;
+
+/**
+ * 체크인하지 않은 확정 예약을 노쇼로 취소하는 스케줄 작업입니다.
+ * - 클러스터에서 임대를 보유한 인스턴스 하나만 실행
+ * - 평소에는 노쇼 대기열에서 판정 시각이 지난 예약만 꺼내 처리 (임대가 없는 인스턴스는 오래된 항목만 정리)
+ * - 주기적으로 (status, start_date_time) 인덱스를 이용해 다른 인스턴스에서 확정된 예약까지 보정
+ * - 정해진 크기의 묶음마다 하나의 트랜잭션에서 아직 확정 상태인 행을 잠근 뒤 벌크 UPDATE와 슬롯 일괄 해제 수행
+ */
+@Slf4j
+@Component
+public class NoShowSweeper {
+
+    private static final String LEASE_NAME = "reservation-no-show-sweep";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(3);
+
+    private final ReservationRepository reservationRepository;
+    private final BookingCoordinator bookingCoordinator;
+    private final NoShowDueQueue noShowDueQueue;
+    private final SchedulerLeaseManager leaseManager;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int reconcileEvery;
+    private int sweepsSinceReconcile;
+    private boolean leaseHeld;
+
+    private final Timer sweepTimer;
+    private final DistributionSummary sweepRows;
+    private final Counter cancelledCounter;
+
+    public NoShowSweeper(
+            ReservationRepository reservationRepository,
+            BookingCoordinator bookingCoordinator,
+            NoShowDueQueue noShowDueQueue,
+            SchedulerLeaseManager leaseManager,
+            ReservationEventPublisher reservationEventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.no-show.batch-size:500}") int batchSize,
+            @Value("${reservation.no-show.reconcile-every:10}") int reconcileEvery
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.bookingCoordinator = bookingCoordinator;
+        this.noShowDueQueue = noShowDueQueue;
+        this.leaseManager = leaseManager;
+        this.reservationEventPublisher = reservationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.reconcileEvery = reconcileEvery;
+
+        this.sweepTimer = Timer.builder("reservation.noshow.sweep")
+                .description("노쇼 처리 1회 소요 시간")
+                .register(meterRegistry);
+        this.sweepRows = DistributionSummary.builder("reservation.noshow.sweep.rows")
+                .description("노쇼 처리 1회당 취소된 예약 수")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("reservation.noshow.cancelled")
+                .description("노쇼로 취소된 예약 누적 수")
+                .register(meterRegistry);
+        Gauge.builder("reservation.noshow.queue.size", noShowDueQueue, NoShowDueQueue::size)
+                .description("노쇼 판정 대기 중인 확정 예약 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 1분 간격으로 노쇼 예약을 처리합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${reservation.no-show.sweep-interval-ms:60000}",
+            initialDelayString = "${reservation.no-show.sweep-interval-ms:60000}"
+    )
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!leaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            leaseHeld = false;
+            // 임대 기간 이상 지난 항목은 보유자가 이미 처리했으므로 버려 대기열이 쌓이지 않도록 함
+            int trimmed = noShowDueQueue.trimBefore(now.minus(LEASE_DURATION));
+            log.debug("노쇼 처리 건너뜀 - 다른 인스턴스가 임대 보유, 정리된 대기 항목 수={}", trimmed);
+            return;
+        }
+
+        if (!leaseHeld) {
+            leaseHeld = true;
+            // 임대가 없는 동안 버린 항목이 있을 수 있으므로, 넘겨받은 첫 실행에서 보정 스캔 수행
+            sweepsSinceReconcile = reconcileEvery;
+        }
+        List<Long> due = noShowDueQueue.pollDue(now);
+
+        Timer.Sample sample = Timer.start();
+        LocalDateTime threshold = now.minusMinutes(NO_SHOW_GRACE_MINUTES);
+        int cancelled = 0;
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> chunk = due.subList(from, Math.min(from + batchSize, due.size()));
+            cancelled += cancelBatch(now, () -> reservationRepository.findOverdueConfirmedIn(chunk, threshold)).cancelled();
+        }
+
+        if (++sweepsSinceReconcile >= reconcileEvery) {
+            sweepsSinceReconcile = 0;
+            cancelled += reconcile(now, threshold);
+        }
+
+        sample.stop(sweepTimer);
+        sweepRows.record(cancelled);
+        cancelledCounter.increment(cancelled);
+
+        if (cancelled > 0) {
+            log.info("노쇼 처리 완료: 취소된 예약 수={}", cancelled);
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 시작한 확정 예약을 인덱스 순서대로 묶음 단위로 모두 처리합니다.
+     */
+    private int reconcile(LocalDateTime now, LocalDateTime threshold) {
+        int cancelled = 0;
+
+        while (true) {
+            Batch batch = cancelBatch(now,
+                    () -> reservationRepository.findOverdueConfirmed(threshold, Limit.of(batchSize)));
+            cancelled += batch.cancelled();
+
+            // 도중에 체크인된 예약은 취소 수에서 빠지므로, 남은 후보가 있는지는 조회한 행 수로 판단
+            if (batch.candidates() < batchSize) {
+                return cancelled;
+            }
+        }
+    }
+
+    /**
+     * 하나의 트랜잭션에서 후보 예약을 취소하고 점유 슬롯을 해제합니다.
+     * 후보를 읽은 뒤 체크인/취소된 예약은 잠금 조회에서 걸러내어 슬롯 해제와 노쇼 이벤트 대상에서 제외합니다.
+     */
+    private Batch cancelBatch(LocalDateTime now, Supplier<List<ConfirmedReservationView>> candidates) {
+        Batch batch = transactionTemplate.execute(status -> {
+            List<ConfirmedReservationView> reservations = candidates.get();
+            if (reservations.isEmpty()) {
+                return new Batch(0, 0);
+            }
+
+            Set<Long> confirmedIds = new HashSet<>(reservationRepository.lockConfirmedIds(
+                    reservations.stream().map(ConfirmedReservationView::getId).toList()));
+            List<ConfirmedReservationView> overdue = reservations.stream()
+                    .filter(view -> confirmedIds.contains(view.getId()))
+                    .toList();
+            if (overdue.isEmpty()) {
+                return new Batch(reservations.size(), 0);
+            }
+
+            int count = reservationRepository.updateConfirmedStatus(confirmedIds, CANCELLED, now);
+            bookingCoordinator.releaseAll(overdue);
+
+            overdue.stream()
+                    .collect(Collectors.groupingBy(ConfirmedReservationView::getStoreId))
+                    .forEach((storeId, cancelled) -> reservationEventPublisher.publish(storeId, cancelled.stream()
+                            .map(view -> ReservationDto.ReservationEventResponse.of(
+                                    ReservationEventType.NO_SHOW, view, CANCELLED))
+                            .toList()));
+            return new Batch(reservations.size(), count);
+        });
+        return batch != null ? batch : new Batch(0, 0);
+    }
+
+    private record Batch(int candidates, int cancelled) {
+    }
+}
@@ -1,17 +1,36 @@
 package com.ian.tablereservation.reservation.application;
 
+import com.ian.tablereservation.common.dto.CursorPageResponse;
 import com.ian.tablereservation.common.security.CustomUserDetails;
+import com.ian.tablereservation.common.support.CursorCodec;
+import com.ian.tablereservation.reservation.domain.PartnerReservationView;
 import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationEventType;
 import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationStateView;
+import com.ian.tablereservation.reservation.domain.ReservationStatus;
 import com.ian.tablereservation.reservation.dto.ReservationDto;
-import com.ian.tablereservation.store.domain.Store;
 import com.ian.tablereservation.store.domain.StoreRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.ian.tablereservation.reservation.domain.ReservationStatus.*;
 
@@ -20,8 +39,79 @@ import static com.ian.tablereservation.reservation.domain.ReservationStatus.*;
 @RequiredArgsConstructor
 public class PartnerReservationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
+    private final BookingCoordinator bookingCoordinator;
+    private final ReservationEventHub reservationEventHub;
+    private final ReservationEventPublisher reservationEventPublisher;
+
+
+    /**
+     * 가게의 예약 목록을 점장에게 시작 시각 순으로 조회합니다.
+     * 상태와 날짜 범위로 거를 수 있으며, (시작 시각, ID) 키셋 커서로 다음 페이지를 조회합니다.
+     *
+     * @param storeId 가게 고유 ID
+     * @param status  예약 상태 (선택, 없으면 전체)
+     * @param from    조회 시작 날짜 (선택, 기본값 오늘)
+     * @param to      조회 종료 날짜, 해당 날짜 포함 (선택, 기본값 시작 날짜로부터 30일)
+     * @param cursor  이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @param user    인증된 파트너 사용자 정보
+     * @return 예약 목록 페이지
+     * @throws IllegalArgumentException 날짜 범위나 커서가 올바르지 않은 경우
+     * @throws AccessDeniedException    권한이 없는 경우
+     */
+    public CursorPageResponse<ReservationDto.PartnerReservationResponse> getStoreReservations(
+            Long storeId, ReservationStatus status, LocalDate from, LocalDate to,
+            String cursor, int size, CustomUserDetails user
+    ) {
+        log.info("가게 예약 목록 조회 처리 시작: storeId={}, status={}, manager={}", storeId, status, user.getUsername());
+
+        Long storePk = validateStoreManagerAccess(storeId, user);
+
+        LocalDate fromDate = from != null ? from : LocalDate.now();
+        LocalDate toDate = to != null ? to : fromDate.plusDays(DEFAULT_RANGE_DAYS);
+        if (toDate.isBefore(fromDate)) {
+            log.error("가게 예약 목록 조회 실패 - 잘못된 날짜 범위: from={}, to={}", fromDate, toDate);
+            throw new IllegalArgumentException("조회 종료 날짜는 시작 날짜보다 빠를 수 없습니다.");
+        }
+
+        LocalDateTime afterStart = fromDate.atStartOfDay();
+        Long afterId = 0L;
+        if (cursor != null) {
+            String[] values = CursorCodec.decode(cursor, 2);
+            try {
+                afterStart = LocalDateTime.parse(values[0]);
+                afterId = Long.valueOf(values[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime end = toDate.plusDays(1).atStartOfDay();
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PartnerReservationView> rows = status != null
+                ? reservationRepository.findStoreFeedByStatus(storePk, status, end, afterStart, afterId, limit)
+                : reservationRepository.findStoreFeed(storePk, end, afterStart, afterId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PartnerReservationView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PartnerReservationView last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getStartDateTime(), last.getId());
+        }
+
+        log.info("가게 예약 목록 조회 완료: storeId={}, {}건", storeId, page.size());
+        return CursorPageResponse.of(
+                page.stream().map(ReservationDto.PartnerReservationResponse::from).toList(), nextCursor
+        );
+    }
 
 
     /**
@@ -32,6 +122,7 @@ public class PartnerReservationService {
      * @param user          인증된 파트너 사용자 정보
      * @return 승인된 예약 정보
      * @throws IllegalArgumentException 이미 처리된 예약인 경우
+     * @throws IllegalStateException    이미 확정된 예약과 시간이 겹치는 경우
      * @throws AccessDeniedException    권한이 없는 경우
      */
     @Transactional
@@ -46,7 +137,10 @@ public class PartnerReservationService {
         validateStoreManagerAccess(storeId, user);
         isNotPending(reservation);
 
-        reservation.updateStatus(CONFIRMED);
+        // 같은 슬롯에 대한 확정은 코디네이터에서 직렬화되며, 겹치는 확정 예약이 있으면 예외 발생
+        bookingCoordinator.confirm(reservation);
+        reservationEventPublisher.publish(storeId,
+                ReservationDto.ReservationEventResponse.of(ReservationEventType.APPROVED, reservation));
 
         log.info("예약 승인 처리 완료: reservationId={}", reservationId);
         return ReservationDto.ReservationResponse.from(reservation);
@@ -66,12 +160,128 @@ public class PartnerReservationService {
         isNotPending(reservation);
 
         reservation.updateStatus(CANCELLED);
+        reservationEventPublisher.publish(storeId,
+                ReservationDto.ReservationEventResponse.of(ReservationEventType.REJECTED, reservation));
 
         log.info("예약 거절 처리 완료: reservationId={}", reservationId);
         return ReservationDto.ReservationResponse.from(reservation);
     }
 
 
+    /**
+     * 가게의 예약 이벤트(생성, 수정, 취소, 승인, 거절, 체크인, 노쇼)를 실시간으로 구독합니다.
+     * 재연결 시 마지막으로 받은 이벤트 ID를 넘기면 그 이후의 이벤트부터 이어서 받습니다.
+     *
+     * @param storeId     가게 고유 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID (첫 연결은 null)
+     * @param user        인증된 파트너 사용자 정보
+     * @return SSE 연결
+     * @throws AccessDeniedException 권한이 없는 경우
+     * @throws IllegalStateException 가게의 동시 구독 수를 초과한 경우
+     */
+    public SseEmitter subscribeEvents(Long storeId, String lastEventId, CustomUserDetails user) {
+        log.info("예약 이벤트 구독 처리: storeId={}, manager={}", storeId, user.getUsername());
+
+        validateStoreManagerAccess(storeId, user);
+        return reservationEventHub.subscribe(storeId, lastEventId);
+    }
+
+
+    /**
+     * 여러 예약을 한 번에 승인합니다.
+     * 점장 권한은 한 번만 확인하고, 대상 예약을 한 번의 쿼리로 읽은 뒤 슬롯 충돌 판정과 상태 변경을 묶음으로 처리합니다.
+     * 처리할 수 없는 예약은 건별 결과로 알려주며, 나머지 예약의 처리는 계속됩니다.
+     *
+     * @param storeId        가게 고유 ID
+     * @param reservationIds 승인할 예약 ID 목록
+     * @param user           인증된 파트너 사용자 정보
+     * @return 예약별 처리 결과
+     * @throws AccessDeniedException 권한이 없는 경우
+     * @throws IllegalStateException 다른 요청과 동시에 처리되어 묶음 전체를 처리하지 못한 경우
+     */
+    @Transactional
+    public ReservationDto.BatchResponse approveReservations(
+            Long storeId, List<Long> reservationIds, CustomUserDetails user
+    ) {
+        log.info("예약 일괄 승인 처리 시작: storeId={}, 요청 수={}, manager={}", storeId, reservationIds.size(), user.getUsername());
+
+        BatchTargets targets = loadBatchTargets(storeId, reservationIds, user);
+        List<ReservationStateView> confirmed = bookingCoordinator.confirmAll(targets.pending());
+        Set<Long> approved = confirmed.stream()
+                .map(ReservationStateView::getReservationId)
+                .collect(Collectors.toSet());
+        reservationEventPublisher.publish(storeId, confirmed.stream()
+                .map(view -> ReservationDto.ReservationEventResponse.of(ReservationEventType.APPROVED, view, CONFIRMED))
+                .toList());
+
+        ReservationDto.BatchResponse response = ReservationDto.BatchResponse.of(targets.results(reservationId ->
+                approved.contains(reservationId) ? ReservationDto.BatchOutcome.APPROVED : ReservationDto.BatchOutcome.SLOT_CONFLICT));
+
+        log.info("예약 일괄 승인 처리 완료: 성공={}, 실패={}", response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+
+    /**
+     * 여러 예약을 한 번에 거절합니다. 승인 대기 중인 예약만 한 번의 UPDATE로 취소됩니다.
+     *
+     * @param storeId        가게 고유 ID
+     * @param reservationIds 거절할 예약 ID 목록
+     * @param user           인증된 파트너 사용자 정보
+     * @return 예약별 처리 결과
+     * @throws AccessDeniedException 권한이 없는 경우
+     * @throws IllegalStateException 다른 요청과 동시에 처리되어 묶음 전체를 처리하지 못한 경우
+     */
+    @Transactional
+    public ReservationDto.BatchResponse rejectReservations(
+            Long storeId, List<Long> reservationIds, CustomUserDetails user
+    ) {
+        log.info("예약 일괄 거절 처리 시작: storeId={}, 요청 수={}, manager={}", storeId, reservationIds.size(), user.getUsername());
+
+        BatchTargets targets = loadBatchTargets(storeId, reservationIds, user);
+        List<Long> ids = targets.pending().stream().map(ReservationStateView::getId).toList();
+
+        if (!ids.isEmpty()) {
+            int updated = reservationRepository.updatePendingStatus(ids, CANCELLED, LocalDateTime.now());
+            if (updated != ids.size()) {
+                log.error("예약 일괄 거절 실패 - 상태 변경 경합: 대상={}, 변경={}", ids.size(), updated);
+                throw new IllegalStateException("다른 요청에서 예약 상태가 변경되었습니다. 다시 시도해주세요.");
+            }
+        }
+        reservationEventPublisher.publish(storeId, targets.pending().stream()
+                .map(view -> ReservationDto.ReservationEventResponse.of(ReservationEventType.REJECTED, view, CANCELLED))
+                .toList());
+
+        ReservationDto.BatchResponse response = ReservationDto.BatchResponse.of(
+                targets.results(reservationId -> ReservationDto.BatchOutcome.REJECTED));
+
+        log.info("예약 일괄 거절 처리 완료: 성공={}, 실패={}", response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+
+    /**
+     * 일괄 처리 대상 예약을 한 번의 쿼리로 조회하고, 존재하지 않거나 승인 대기 상태가 아닌 예약을 걸러냅니다.
+     */
+    private BatchTargets loadBatchTargets(Long storeId, List<Long> reservationIds, CustomUserDetails user) {
+        Long storePk = validateStoreManagerAccess(storeId, user);
+        List<Long> requested = List.copyOf(new LinkedHashSet<>(reservationIds));
+
+        Map<Long, ReservationStateView> found = reservationRepository
+                .findStatesByStoreAndReservationIdIn(storePk, requested).stream()
+                .collect(Collectors.toMap(ReservationStateView::getReservationId, Function.identity()));
+
+        List<ReservationStateView> pending = new ArrayList<>();
+        for (Long reservationId : requested) {
+            ReservationStateView reservation = found.get(reservationId);
+            if (reservation != null && !reservation.getStatus().isNotPending()) {
+                pending.add(reservation);
+            }
+        }
+        return new BatchTargets(requested, found, pending);
+    }
+
+
     /**
      * 예약 ID를 기반으로 예약 정보를 조회합니다.
      * 예약 정보가 존재하지 않는 경우 예외를 발생시킵니다.
@@ -92,28 +302,31 @@ public class PartnerReservationService {
 
 
     /**
+     * 요청자가 가게의 점장인지 검증합니다.
+     * 가게/사용자 엔티티를 읽지 않고 인덱스 조회로 확인하며, 실패한 경우에만 가게 존재 여부를 다시 확인합니다.
      *
-     * @param storeId
-     * @param user
+     * @param storeId 가게 고유 번호
+     * @param user    인증된 파트너 사용자 정보
+     * @return 가게 내부 ID
+     * @throws EntityNotFoundException 가게가 존재하지 않는 경우
+     * @throws AccessDeniedException   점장이 아닌 경우
      */
-    private void validateStoreManagerAccess(Long storeId, CustomUserDetails user) {
+    private Long validateStoreManagerAccess(Long storeId, CustomUserDetails user) {
         log.debug("점장 권한 검증 시도: {}", user.getUsername());
 
-        Store store = storeRepository.findByStoreId(storeId)
-                .orElseThrow(() -> {
-                    log.error("");
-                    return new EntityNotFoundException("가게 정보를 찾을 수 없습니다.");
-                });
-
-        String ownerPhone = store.getUser().getPhone();
-        String requestUser = user.getUsername();
+        Optional<Long> storePk = storeRepository.findIdByStoreIdAndUserId(storeId, user.getId());
+        if (storePk.isPresent()) {
+            log.debug("점장 권한 검증 성공: 가게={}, 요청자={}", storeId, user.getUsername());
+            return storePk.get();
+        }
 
-        if (!ownerPhone.equals(requestUser)) {
-            log.error("예약 접근 거부 - 점장 권한 없음: 점장={}, 요청자={}", ownerPhone, requestUser);
-            throw new AccessDeniedException("해당 작업을 수행할 권한이 없습니다.");
+        if (!storeRepository.existsByStoreId(storeId)) {
+            log.error("점장 권한 검증 실패 - 가게 없음: 가게={}", storeId);
+            throw new EntityNotFoundException("가게 정보를 찾을 수 없습니다.");
         }
 
-        log.debug("점장 권한 검증 성공: 점장={}, 요청자={}", ownerPhone, requestUser);
+        log.error("예약 접근 거부 - 점장 권한 없음: 가게={}, 요청자={}", storeId, user.getUsername());
+        throw new AccessDeniedException("해당 작업을 수행할 권한이 없습니다.");
     }
 
 
@@ -132,4 +345,34 @@ public class PartnerReservationService {
 
         log.debug("예약 상태 확인 완료 - 처리 전 상태");
     }
+
+
+    /**
+     * 일괄 처리 대상. 요청 순서를 유지한 예약 ID, 조회된 예약, 그 중 승인 대기 중인 예약을 담습니다.
+     */
+    private record BatchTargets(
+            List<Long> requested, Map<Long, ReservationStateView> found, List<ReservationStateView> pending
+    ) {
+        List<ReservationDto.BatchItemResult> results(Function<Long, ReservationDto.BatchOutcome> pendingOutcome) {
+            return requested.stream()
+                    .map(reservationId -> ReservationDto.BatchItemResult.builder()
+                            .reservationId(reservationId)
+                            .outcome(outcomeOf(reservationId, pendingOutcome))
+                            .build())
+                    .toList();
+        }
+
+        private ReservationDto.BatchOutcome outcomeOf(
+                Long reservationId, Function<Long, ReservationDto.BatchOutcome> pendingOutcome
+        ) {
+            ReservationStateView reservation = found.get(reservationId);
+            if (reservation == null) {
+                return ReservationDto.BatchOutcome.NOT_FOUND;
+            }
+            if (reservation.getStatus().isNotPending()) {
+                return ReservationDto.BatchOutcome.NOT_PENDING;
+            }
+            return pendingOutcome.apply(reservationId);
+        }
+    }
 }
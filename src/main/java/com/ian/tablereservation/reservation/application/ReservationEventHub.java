@@ -0,0 +1,345 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.support.Transactions;
+import com.ian.tablereservation.reservation.dto.ReservationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가게별 예약 이벤트를 구독 중인 점장에게 SSE로 전달하는 허브입니다.
+ * - 발행은 구독자별 고정 크기 큐에 넣기만 하며 절대 대기하지 않음
+ * - 구독자마다 가상 스레드 하나가 큐를 비우며 전송하고, 이벤트가 없으면 주기적으로 keepalive 전송
+ * - 큐가 가득 찬 느린 구독자는 연결을 끊어 다른 구독자와 발행자에게 영향을 주지 않도록 함
+ * - 가게별로 최근 이벤트를 보관하여 재연결 시 Last-Event-ID 이후의 이벤트를 다시 보내고,
+ *   보관 범위를 벗어났거나 다른 인스턴스/이전 기동의 ID이면 resync 이벤트로 목록 재조회를 요청
+ * - 구독자가 없는 가게는 채널을 만들지 않고, 마지막 구독자가 떠난 채널은 재연결 대기 시간이 지나면 제거
+ * 이벤트는 이 인스턴스에서 커밋된 변경만 전달됩니다. 여러 인스턴스로 운영하면 다른 인스턴스에서 커밋된 변경은
+ * 이 허브에 도달하지 않으므로, 인스턴스 간 실시간 전달이 필요하면 아웃박스 싱크({@link ReservationEventSink})로
+ * 공유 브로커에 내보내 구독해야 합니다.
+ */
+@Slf4j
+@Component
+public class ReservationEventHub {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final int bufferSize;
+    private final int maxSubscribersPerStore;
+    private final long heartbeatMs;
+    private final long timeoutMs;
+    private final long idleChannelTtlMs;
+
+    // 이벤트 ID는 "{기동 시각}-{순번}" 형식이며, 기동 시각이 다르면 재조회가 필요함
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<Long, StoreChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter evictedCounter;
+
+    public ReservationEventHub(
+            MeterRegistry meterRegistry,
+            @Value("${reservation.events.buffer-size:256}") int bufferSize,
+            @Value("${reservation.events.max-subscribers-per-store:20}") int maxSubscribersPerStore,
+            @Value("${reservation.events.heartbeat-seconds:15}") long heartbeatSeconds,
+            @Value("${reservation.events.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${reservation.events.idle-channel-ttl-minutes:5}") long idleChannelTtlMinutes
+    ) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribersPerStore = maxSubscribersPerStore;
+        this.heartbeatMs = Duration.ofSeconds(heartbeatSeconds).toMillis();
+        this.timeoutMs = Duration.ofMinutes(timeoutMinutes).toMillis();
+        this.idleChannelTtlMs = Duration.ofMinutes(idleChannelTtlMinutes).toMillis();
+
+        Gauge.builder("reservation.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("예약 이벤트 구독 중인 연결 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("reservation.events.evicted")
+                .description("전송이 밀려 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 가게의 예약 이벤트를 구독합니다.
+     *
+     * @param storeId     가게 고유 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (첫 연결은 null)
+     * @return SSE 연결
+     * @throws IllegalStateException 가게의 동시 구독 수를 초과한 경우
+     */
+    public SseEmitter subscribe(Long storeId, String lastEventId) {
+        Subscriber subscriber = new Subscriber(storeId, createEmitter(timeoutMs), new ArrayBlockingQueue<>(bufferSize));
+
+        // 채널 제거와 겹치지 않도록 맵의 갱신 안에서 구독자를 등록함
+        channels.compute(storeId, (id, existing) -> {
+            StoreChannel channel = existing != null ? existing : new StoreChannel();
+
+            synchronized (channel) {
+                if (channel.subscribers.size() >= maxSubscribersPerStore) {
+                    log.warn("예약 이벤트 구독 거절 - 동시 구독 수 초과: storeId={}", storeId);
+                    throw new IllegalStateException("동시에 연결할 수 있는 이벤트 구독 수를 초과했습니다.");
+                }
+
+                // 발행과 같은 잠금 아래에서 재전송분을 채우므로 누락이나 중복 없이 이어짐
+                if (lastEventId != null) {
+                    channel.replayAfter(lastEventId).forEach(subscriber.queue::offer);
+                }
+                channel.subscribers.add(subscriber);
+            }
+            return channel;
+        });
+
+        subscriberCount.incrementAndGet();
+        subscriber.emitter.onCompletion(() -> close(subscriber));
+        subscriber.emitter.onTimeout(() -> close(subscriber));
+        subscriber.emitter.onError(e -> close(subscriber));
+        subscriber.sender = senders.submit(() -> drain(subscriber));
+
+        log.info("예약 이벤트 구독 시작: storeId={}, lastEventId={}", storeId, lastEventId);
+        return subscriber.emitter;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 가게 구독자에게 여러 이벤트를 순서대로 발행합니다.
+     */
+    public void publishAfterCommit(Long storeId, List<ReservationDto.ReservationEventResponse> events) {
+        if (!events.isEmpty()) {
+            Transactions.afterCommit(() -> publish(storeId, events));
+        }
+    }
+
+    /**
+     * 가게 구독자에게 이벤트를 발행합니다. 구독자의 큐가 가득 차 있으면 해당 구독자의 연결을 끊습니다.
+     * 채널이 없는 가게(구독자도, 재연결을 기다리는 구독자도 없음)의 이벤트는 보관하지 않고 버립니다.
+     */
+    public void publish(Long storeId, List<ReservationDto.ReservationEventResponse> events) {
+        List<Subscriber> slow = new ArrayList<>();
+
+        while (true) {
+            StoreChannel channel = channels.get(storeId);
+            if (channel == null) {
+                return;
+            }
+
+            synchronized (channel) {
+                if (channel.removed) {
+                    continue;
+                }
+
+                for (ReservationDto.ReservationEventResponse payload : events) {
+                    Event event = new Event(sequence.incrementAndGet(), payload.getType().name(), payload);
+                    channel.append(event);
+
+                    for (Subscriber subscriber : channel.subscribers) {
+                        if (!subscriber.queue.offer(event)) {
+                            slow.add(subscriber);
+                        }
+                    }
+                }
+            }
+            break;
+        }
+
+        slow.stream().distinct().forEach(this::evict);
+    }
+
+    /**
+     * 마지막 구독자가 떠난 뒤 재연결 대기 시간이 지난 채널과 보관 중인 이벤트를 제거합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${reservation.events.purge-interval-ms:60000}",
+            initialDelayString = "${reservation.events.purge-interval-ms:60000}"
+    )
+    public void purgeIdleChannels() {
+        long idleBefore = System.currentTimeMillis() - idleChannelTtlMs;
+
+        for (Long storeId : channels.keySet()) {
+            channels.computeIfPresent(storeId, (id, channel) -> {
+                synchronized (channel) {
+                    if (!channel.subscribers.isEmpty() || channel.idleSince > idleBefore) {
+                        return channel;
+                    }
+                    channel.removed = true;
+                    return null;
+                }
+            });
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> List.copyOf(channel.subscribers).forEach(this::close));
+        senders.shutdownNow();
+    }
+
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    /**
+     * 구독자의 큐를 비우며 이벤트를 전송합니다. 전송이 실패하면 연결을 정리합니다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                Event event = subscriber.queue.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+                    continue;
+                }
+
+                SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name());
+                if (event.payload() != null) {
+                    builder.id(epoch + "-" + event.sequence()).data(event.payload());
+                } else {
+                    builder.data("");
+                }
+                subscriber.emitter.send(builder);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("예약 이벤트 전송 중단 - 연결 종료: storeId={}", subscriber.storeId);
+        } finally {
+            close(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * 전송이 밀린 구독자를 내보냅니다. 발행 스레드가 느린 소켓 쓰기에 묶이지 않도록
+     * 연결 종료는 구독자의 전송 스레드에 맡깁니다.
+     */
+    private void evict(Subscriber subscriber) {
+        if (close(subscriber)) {
+            evictedCounter.increment();
+            log.warn("예약 이벤트 구독자 연결 종료 - 전송 지연: storeId={}", subscriber.storeId);
+        }
+        Future<?> sender = subscriber.sender;
+        if (sender != null) {
+            sender.cancel(true);
+        }
+    }
+
+    /**
+     * 구독자를 채널에서 제거합니다.
+     *
+     * @return 이번 호출로 제거되었으면 true
+     */
+    private boolean close(Subscriber subscriber) {
+        StoreChannel channel = channels.get(subscriber.storeId);
+        boolean removed = channel != null && channel.subscribers.remove(subscriber);
+        subscriber.closed = true;
+
+        if (removed) {
+            subscriberCount.decrementAndGet();
+            if (channel.subscribers.isEmpty()) {
+                channel.idleSince = System.currentTimeMillis();
+            }
+        }
+        return removed;
+    }
+
+
+    private record Event(long sequence, String name, ReservationDto.ReservationEventResponse payload) {
+    }
+
+    private static final class Subscriber {
+        private final Long storeId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> queue;
+        private volatile Future<?> sender;
+        private volatile boolean closed;
+
+        private Subscriber(Long storeId, SseEmitter emitter, BlockingQueue<Event> queue) {
+            this.storeId = storeId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * 가게별 구독자 목록과 재연결용 최근 이벤트 보관소입니다. 변경은 채널 잠금 아래에서만 이루어집니다.
+     */
+    private final class StoreChannel {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final ArrayDeque<Event> recent = new ArrayDeque<>();
+        // 채널이 없던 동안의 이벤트는 보관되지 않았으므로, 생성 이전의 ID로 재연결하면 재조회를 요청함
+        private long droppedUpTo = sequence.incrementAndGet();
+        private volatile long idleSince = System.currentTimeMillis();
+        private boolean removed;
+
+        private void append(Event event) {
+            if (recent.size() == bufferSize) {
+                droppedUpTo = recent.removeFirst().sequence();
+            }
+            recent.addLast(event);
+        }
+
+        private List<Event> replayAfter(String lastEventId) {
+            long lastSequence = parseSequence(lastEventId);
+            if (lastSequence < 0 || lastSequence < droppedUpTo) {
+                log.debug("예약 이벤트 재전송 불가, 재조회 요청: lastEventId={}", lastEventId);
+                return List.of(new Event(0, RESYNC_EVENT, null));
+            }
+
+            return recent.stream()
+                    .filter(event -> event.sequence() > lastSequence)
+                    .toList();
+        }
+    }
+
+    /**
+     * 이 인스턴스가 발급한 이벤트 ID에서 순번을 추출합니다.
+     *
+     * @return 순번, 다른 기동에서 발급되었거나 형식이 올바르지 않으면 -1
+     */
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(Long.toString(epoch))) {
+            return -1;
+        }
+
+        try {
+            long parsed = Long.parseLong(lastEventId.substring(separator + 1));
+            return parsed <= sequence.get() ? parsed : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationOutbox;
+import com.ian.tablereservation.reservation.domain.ReservationOutboxRepository;
+import com.ian.tablereservation.reservation.dto.ReservationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 상태 변경을 기록합니다.
+ * 변경과 같은 트랜잭션에서 아웃박스 행만 추가하며(싱크 전달은 {@link ReservationOutboxRelay}가 커밋 이후 수행),
+ * 커밋된 뒤에는 이 인스턴스의 실시간 구독자에게도 바로 알립니다. 다른 인스턴스에 연결된 구독자에게는 전달되지 않습니다.
+ * 반드시 상태를 변경하는 트랜잭션 안에서 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final ReservationEventHub reservationEventHub;
+
+
+    public void publish(Long storeId, ReservationDto.ReservationEventResponse event) {
+        publish(storeId, List.of(event));
+    }
+
+    public void publish(Long storeId, List<ReservationDto.ReservationEventResponse> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.saveAll(events.stream()
+                .map(event -> ReservationOutbox.builder()
+                        .reservationId(event.getReservationId())
+                        .storeId(storeId)
+                        .eventType(event.getType())
+                        .reservationStatus(event.getStatus())
+                        .tableId(event.getTableId())
+                        .startDateTime(event.getDate() != null ? event.getDate().atTime(event.getTime()) : null)
+                        .occurredAt(now)
+                        .build())
+                .toList());
+
+        reservationEventHub.publishAfterCommit(storeId, events);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationChangedEvent;
+
+/**
+ * 아웃박스 중계기가 예약 상태 변경 이벤트를 넘겨주는 전달 대상입니다.
+ * 빈으로 등록된 모든 싱크가 같은 순서로 이벤트를 받습니다.
+ * 전달은 최소 한 번(at-least-once) 보장이므로, 싱크는 outboxId로 중복을 걸러낼 수 있어야 합니다.
+ */
+public interface ReservationEventSink {
+
+    /**
+     * 이벤트를 전달합니다. 예외를 던지면 같은 예약의 이후 이벤트와 함께 다음 중계 때 다시 전달됩니다.
+     */
+    void deliver(ReservationChangedEvent event);
+
+    /**
+     * 한 묶음의 전달이 끝난 뒤 호출됩니다. 버퍼를 사용하는 싱크는 여기서 내보내야 합니다.
+     */
+    default void flush() {
+    }
+}
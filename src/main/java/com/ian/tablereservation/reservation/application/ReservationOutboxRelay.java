@@ -0,0 +1,194 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.reservation.domain.ReservationOutbox;
+import com.ian.tablereservation.reservation.domain.ReservationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 아웃박스를 비워 등록된 싱크에 전달하는 중계기입니다.
+ * - 클러스터에서 임대를 보유한 인스턴스 하나만 실행하며, 아웃박스를 ID 순서로 묶음 단위로 읽음
+ * - 묶음을 읽기 전마다 임대를 연장하고, 임대를 잃으면 남은 적체는 새 보유자에게 넘김
+ * - 예약 트랜잭션 밖에서 전달하므로 싱크가 느려도 예약 처리 시간에는 영향 없음
+ * - 전달에 실패한 예약의 이후 이벤트는 같은 묶음에서 보류하여 예약별 순서를 유지
+ * - 재시도 한도를 넘긴 이벤트는 실패로 표시하고 건너뜀
+ */
+@Slf4j
+@Component
+public class ReservationOutboxRelay {
+
+    private static final String LEASE_NAME = "reservation-outbox-relay";
+    private static final String PURGE_LEASE_NAME = "reservation-outbox-purge";
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+    private static final Duration PURGE_LEASE_DURATION = Duration.ofMinutes(30);
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final List<ReservationEventSink> sinks;
+    private final SchedulerLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+
+    public ReservationOutboxRelay(
+            ReservationOutboxRepository outboxRepository,
+            List<ReservationEventSink> sinks,
+            SchedulerLeaseManager leaseManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.outbox.batch-size:200}") int batchSize,
+            @Value("${reservation.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${reservation.outbox.retention-days:7}") int retentionDays
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+
+        this.relayedCounter = Counter.builder("reservation.outbox.relayed")
+                .description("싱크에 전달된 예약 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("reservation.outbox.failed")
+                .description("재시도 한도를 넘겨 전달을 포기한 예약 이벤트 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 전달되지 않은 아웃박스 이벤트를 싱크에 전달합니다.
+     *
+     * @return 전달된 이벤트 수
+     */
+    @Scheduled(
+            fixedDelayString = "${reservation.outbox.relay-interval-ms:1000}",
+            initialDelayString = "${reservation.outbox.relay-interval-ms:1000}"
+    )
+    public int relay() {
+        int relayed = 0;
+
+        // 묶음마다 임대를 연장하여, 적체를 비우는 동안 임대가 만료되어 다른 인스턴스와 함께 전달하지 않도록 함
+        while (leaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            List<ReservationOutbox> batch = outboxRepository.findUnpublished(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            BatchResult result = deliver(batch);
+            record(result);
+            relayed += result.delivered().size();
+
+            // 실패가 있으면 같은 행을 곧바로 다시 읽지 않도록 다음 주기로 미룸
+            if (batch.size() < batchSize || !result.retry().isEmpty()) {
+                break;
+            }
+        }
+
+        if (relayed > 0) {
+            log.debug("예약 이벤트 중계 완료: {}건", relayed);
+        }
+        return relayed;
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트를 삭제합니다.
+     */
+    @Scheduled(cron = "${reservation.outbox.purge-cron:0 0 5 * * *}")
+    public int purge() {
+        if (!leaseManager.tryAcquire(PURGE_LEASE_NAME, PURGE_LEASE_DURATION)) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deletePublishedBefore(cutoff));
+        log.info("예약 아웃박스 정리 완료: 삭제={}건", deleted);
+        return deleted != null ? deleted : 0;
+    }
+
+
+    private BatchResult deliver(List<ReservationOutbox> batch) {
+        List<Long> delivered = new ArrayList<>();
+        List<Long> retry = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        Set<Long> blocked = new HashSet<>();
+
+        for (ReservationOutbox outbox : batch) {
+            // 앞선 이벤트가 실패한 예약은 순서를 지키기 위해 이번 묶음에서 더 전달하지 않음
+            if (blocked.contains(outbox.getReservationId())) {
+                continue;
+            }
+
+            try {
+                sinks.forEach(sink -> sink.deliver(outbox.toEvent()));
+                delivered.add(outbox.getId());
+            } catch (RuntimeException e) {
+                if (outbox.getAttempts() + 1 >= maxAttempts) {
+                    log.error("예약 이벤트 전달 포기: outboxId={}, 예약 번호={}, 시도={}",
+                            outbox.getId(), outbox.getReservationId(), outbox.getAttempts() + 1, e);
+                    failed.add(outbox.getId());
+                    continue;
+                }
+
+                log.warn("예약 이벤트 전달 실패, 다음 주기에 재시도: outboxId={}, 예약 번호={}, 원인={}",
+                        outbox.getId(), outbox.getReservationId(), e.getMessage());
+                blocked.add(outbox.getReservationId());
+                retry.add(outbox.getId());
+            }
+        }
+
+        try {
+            sinks.forEach(ReservationEventSink::flush);
+        } catch (RuntimeException e) {
+            // 내보내지 못했으면 이번 묶음 전체를 다시 전달
+            log.warn("예약 이벤트 싱크 플러시 실패, 다음 주기에 재시도: {}", e.getMessage());
+            List<Long> all = batch.stream().map(ReservationOutbox::getId).toList();
+            return new BatchResult(List.of(), all, List.of());
+        }
+
+        return new BatchResult(delivered, retry, failed);
+    }
+
+    private void record(BatchResult result) {
+        LocalDateTime now = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!result.delivered().isEmpty()) {
+                outboxRepository.markPublished(result.delivered(), now);
+            }
+            if (!result.retry().isEmpty()) {
+                outboxRepository.incrementAttempts(result.retry(), now);
+            }
+            if (!result.failed().isEmpty()) {
+                outboxRepository.markFailed(result.failed(), now);
+            }
+        });
+
+        relayedCounter.increment(result.delivered().size());
+        failedCounter.increment(result.failed().size());
+    }
+
+
+    private record BatchResult(List<Long> delivered, List<Long> retry, List<Long> failed) {
+    }
+}
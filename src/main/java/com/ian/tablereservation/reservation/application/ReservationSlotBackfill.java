@@ -0,0 +1,111 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlot;
+import com.ian.tablereservation.reservation.domain.ReservationSlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 슬롯 테이블 도입 이전에 확정되어 reservation_slots 행이 없는 예약의 슬롯을 기동 시 채웁니다.
+ * 채워진 뒤에는 (table_id, slot_start) 유니크 키가 기존 예약까지 포함해 중복 확정을 막습니다.
+ * - 임대를 보유한 인스턴스 하나만 실행
+ * - 예약마다 별도 트랜잭션으로 저장하며, 이미 겹치는 기존 예약은 경고만 남기고 건너뜀
+ */
+@Slf4j
+@Component
+public class ReservationSlotBackfill {
+
+    private static final String LEASE_NAME = "reservation-slot-backfill";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 500;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository slotRepository;
+    private final SchedulerLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationSlotBackfill(
+            ReservationRepository reservationRepository,
+            ReservationSlotRepository slotRepository,
+            SchedulerLeaseManager leaseManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.slotRepository = slotRepository;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+
+    /**
+     * 오늘 이후에 끝나는 확정 예약 중 슬롯 행이 없는 예약의 슬롯을 저장합니다.
+     *
+     * @return 슬롯을 채운 예약 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        if (!leaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            log.debug("예약 슬롯 보충 건너뜀 - 다른 인스턴스가 임대 보유");
+            return 0;
+        }
+
+        long lastId = 0;
+        int filled = 0;
+        int conflicts = 0;
+
+        while (true) {
+            List<ConfirmedReservationView> reservations = reservationRepository.findConfirmedWithoutSlots(
+                    LocalDate.now().atStartOfDay(), lastId, Limit.of(BATCH_SIZE));
+            if (reservations.isEmpty()) {
+                break;
+            }
+
+            for (ConfirmedReservationView reservation : reservations) {
+                if (claim(reservation)) {
+                    filled++;
+                } else {
+                    conflicts++;
+                }
+            }
+            lastId = reservations.get(reservations.size() - 1).getId();
+        }
+
+        if (filled > 0 || conflicts > 0) {
+            log.info("예약 슬롯 보충 완료: 보충={}, 기존 중복 예약={}", filled, conflicts);
+        }
+        return filled;
+    }
+
+    private boolean claim(ConfirmedReservationView reservation) {
+        List<ReservationSlot> slots = TableAvailabilityIndex
+                .slotStarts(reservation.getStartDateTime(), reservation.getEndDateTime()).stream()
+                .map(slotStart -> ReservationSlot.builder()
+                        .tableId(reservation.getTableId())
+                        .slotStart(slotStart)
+                        .reservationId(reservation.getReservationId())
+                        .build())
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> slotRepository.saveAllAndFlush(slots));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("예약 슬롯 보충 실패 - 이미 겹치는 확정 예약 존재: 예약 번호={}, 테이블 ID={}, 시작={}",
+                    reservation.getReservationId(), reservation.getTableId(), reservation.getStartDateTime());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlotView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블별, 날짜별 30분 단위 예약 슬롯을 비트맵으로 관리하는 인메모리 인덱스입니다.
+ * 하루 48개의 슬롯을 long 하나의 비트로 표현하며, 확정(CONFIRMED)된 예약만 슬롯을 점유합니다.
+ * 기동 시와 주기적으로 DB의 확정 예약으로 다시 구성하여 교체하므로, 다른 인스턴스에서 확정/해제된 슬롯과
+ * 지난 날짜의 정리도 한 주기 안에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TableAvailabilityIndex {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private final ReservationRepository reservationRepository;
+
+    private volatile Map<SlotDay, Long> bitmaps = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 재구성 중 들어온 점유/해제 기록. 재구성 중이 아니면 null이며, this로 동기화합니다.
+     */
+    private List<Change> pending;
+
+
+    /**
+     * 오늘 이후에 끝나는 확정 예약으로 새 인덱스를 구성한 뒤 교체합니다.
+     * 구성하는 동안 커밋된 점유/해제는 따로 기록해 두었다가 교체 직전에 새 인덱스에 다시 적용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${reservation.availability.refresh-interval-ms:60000}",
+            initialDelayString = "${reservation.availability.refresh-interval-ms:60000}"
+    )
+    public void rebuild() {
+        log.debug("예약 슬롯 인덱스 구성 시작");
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+
+        Map<SlotDay, Long> rebuilt = new ConcurrentHashMap<>();
+        List<ReservationSlotView> slots;
+        try {
+            slots = reservationRepository.findConfirmedSlotsEndingAfter(LocalDate.now().atStartOfDay());
+            for (ReservationSlotView slot : slots) {
+                mark(rebuilt, slot.getTableId(), slot.getStartDateTime(), slot.getEndDateTime());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (Change change : pending) {
+                apply(rebuilt, change);
+            }
+            pending = null;
+            bitmaps = rebuilt;
+        }
+
+        ready = true;
+        log.debug("예약 슬롯 인덱스 구성 완료: 확정 예약 수={}, 비트맵 수={}", slots.size(), rebuilt.size());
+    }
+
+    /**
+     * 인덱스 구성이 끝나 조회에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 요청한 시간대에 이미 점유된 슬롯이 있는지 확인합니다.
+     *
+     * @param tableId 테이블 ID
+     * @param start   시작 시각
+     * @param end     종료 시각
+     * @return 하나라도 점유된 슬롯이 있으면 true
+     */
+    public boolean isOccupied(Long tableId, LocalDateTime start, LocalDateTime end) {
+        for (LocalDateTime slot = truncate(start); slot.isBefore(end); slot = slot.plusMinutes(SLOT_MINUTES)) {
+            Long bitmap = bitmaps.get(new SlotDay(tableId, slot.toLocalDate()));
+
+            if (bitmap != null && (bitmap & slotBit(slot)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 해당 테이블의 하루 점유 비트맵을 반환합니다. (n번째 비트 = n번째 30분 슬롯)
+     */
+    public long occupiedSlots(Long tableId, LocalDate date) {
+        return bitmaps.getOrDefault(new SlotDay(tableId, date), 0L);
+    }
+
+    /**
+     * 시간대의 슬롯을 점유 상태로 표시합니다.
+     */
+    public void occupy(Long tableId, LocalDateTime start, LocalDateTime end) {
+        record(new Change(tableId, start, end, true));
+        log.debug("슬롯 점유: 테이블 ID={}, 시작={}, 종료={}", tableId, start, end);
+    }
+
+    /**
+     * 시간대의 슬롯 점유를 해제합니다.
+     */
+    public void release(Long tableId, LocalDateTime start, LocalDateTime end) {
+        record(new Change(tableId, start, end, false));
+        log.debug("슬롯 해제: 테이블 ID={}, 시작={}, 종료={}", tableId, start, end);
+    }
+
+    /**
+     * 시간대에 걸친 30분 단위 슬롯의 시작 시각 목록을 반환합니다.
+     */
+    public static List<LocalDateTime> slotStarts(LocalDateTime start, LocalDateTime end) {
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (LocalDateTime slot = truncate(start); slot.isBefore(end); slot = slot.plusMinutes(SLOT_MINUTES)) {
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    /**
+     * 슬롯이 하루 비트맵에서 차지하는 비트를 반환합니다.
+     */
+    public static long slotBit(LocalDateTime slot) {
+        int index = (slot.getHour() * 60 + slot.getMinute()) / SLOT_MINUTES;
+        return 1L << index;
+    }
+
+
+    private synchronized void record(Change change) {
+        apply(bitmaps, change);
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+
+    private static void apply(Map<SlotDay, Long> target, Change change) {
+        if (change.occupied()) {
+            mark(target, change.tableId(), change.start(), change.end());
+            return;
+        }
+
+        for (LocalDateTime slot : slotStarts(change.start(), change.end())) {
+            long bit = slotBit(slot);
+            target.computeIfPresent(new SlotDay(change.tableId(), slot.toLocalDate()), (key, bits) -> {
+                long remaining = bits & ~bit;
+                return remaining == 0 ? null : remaining;
+            });
+        }
+    }
+
+    private static void mark(Map<SlotDay, Long> target, Long tableId, LocalDateTime start, LocalDateTime end) {
+        for (LocalDateTime slot = truncate(start); slot.isBefore(end); slot = slot.plusMinutes(SLOT_MINUTES)) {
+            target.merge(new SlotDay(tableId, slot.toLocalDate()), slotBit(slot), (bits, added) -> bits | added);
+        }
+    }
+
+    private static LocalDateTime truncate(LocalDateTime time) {
+        LocalDateTime minutes = time.truncatedTo(ChronoUnit.MINUTES);
+        return minutes.minusMinutes(minutes.getMinute() % SLOT_MINUTES);
+    }
+
+    private record SlotDay(Long tableId, LocalDate date) {
+    }
+
+    private record Change(Long tableId, LocalDateTime start, LocalDateTime end, boolean occupied) {
+    }
+}
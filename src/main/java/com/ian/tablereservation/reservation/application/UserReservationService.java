@@ -1,23 +1,23 @@
 package com.ian.tablereservation.reservation.application;
 
+import com.ian.tablereservation.common.id.IdGenerator;
 import com.ian.tablereservation.common.security.CustomUserDetails;
 import com.ian.tablereservation.reservation.dto.ReservationDto;
 import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationEventType;
 import com.ian.tablereservation.reservation.dto.ValidatedReservation;
 import com.ian.tablereservation.store.domain.Store;
 import com.ian.tablereservation.store.table.domain.StoreTable;
 import com.ian.tablereservation.reservation.domain.ReservationRepository;
 import com.ian.tablereservation.store.domain.StoreRepository;
 import com.ian.tablereservation.store.table.domain.StoreTableRepository;
+import com.ian.tablereservation.user.domain.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
 
 import static com.ian.tablereservation.reservation.domain.ReservationStatus.*;
 
@@ -29,6 +29,10 @@ public class UserReservationService {
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final StoreTableRepository tableRepository;
+    private final BookingCoordinator bookingCoordinator;
+    private final UserRepository userRepository;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final IdGenerator idGenerator;
 
     private static final int ALLOWED_TIME_UNIT_MINUTES = 30;
 
@@ -50,17 +54,18 @@ public class UserReservationService {
     ) {
         log.info("예약 생성 처리 시작: 사용자={}", user.getUsername());
 
-        Store store = findStoreOrThrow(storeId);
+        // 이미 찬 시간은 메모리 인덱스로 먼저 거절하여 가게 조회 쿼리도 보내지 않음
         ValidatedReservation validatedReservation = extractValidatedReservation(storeId, request);
+        Store store = findStoreOrThrow(storeId);
 
-        Long reservationId = generateReservationId();
+        Long reservationId = idGenerator.nextId();
         log.debug("예약 번호 생성: 예약 번호={}", reservationId);
 
         Reservation reservation = reservationRepository.save(
                 Reservation.builder()
                         .reservationId(reservationId)
                         .store(store)
-                        .user(user.getUser())
+                        .user(userRepository.getReferenceById(user.getId()))
                         .numberOfPeople(validatedReservation.numberOfPeople())
                         .startDateTime(validatedReservation.start())
                         .endDateTime(validatedReservation.end())
@@ -69,17 +74,13 @@ public class UserReservationService {
                         .build()
         );
 
+        reservationEventPublisher.publish(storeId,
+                ReservationDto.ReservationEventResponse.of(ReservationEventType.CREATED, reservation));
+
         log.info("예약 생성 완료: ID={}", reservationId);
         return ReservationDto.ReservationResponse.from(reservation);
     }
 
-    /**
-     * UUID를 기반으로 예약 번호를 생성합니다.
-     */
-    private Long generateReservationId() {
-        return Math.abs(UUID.randomUUID().getMostSignificantBits());
-    }
-
 
     /**
      * 특정 예약 정보를 상세 조회합니다.
@@ -127,7 +128,14 @@ public class UserReservationService {
 
         ValidatedReservation validatedReservation = extractValidatedReservation(storeId, request);
 
+        if (reservation.getStatus().canCheckin()) {
+            // 확정 예약을 수정하면 재승인 대기 상태가 되므로 기존 슬롯을 해제
+            bookingCoordinator.release(reservation);
+        }
+
         reservation.updateReservation(validatedReservation);
+        reservationEventPublisher.publish(storeId,
+                ReservationDto.ReservationEventResponse.of(ReservationEventType.UPDATED, reservation));
 
         log.info("예약 수정 완료: 예약 ID={}", reservationId);
         return ReservationDto.ReservationResponse.from(reservation);
@@ -143,6 +151,7 @@ public class UserReservationService {
      * @param user          인증된 사용자
      * @throws RuntimeException 예약이 존재하지 않거나 사용자 불일치 시
      */
+    @Transactional
     public void deleteReservation(
             Long storeId, Long reservationId, CustomUserDetails user
     ) {
@@ -151,6 +160,13 @@ public class UserReservationService {
 
         validateReservationOwner(reservation, user);
 
+        if (reservation.getStatus().canCheckin()) {
+            bookingCoordinator.release(reservation);
+        }
+
+        reservationEventPublisher.publish(storeId, ReservationDto.ReservationEventResponse.of(
+                ReservationEventType.CANCELLED, reservation, CANCELLED));
+
         log.info("예약 삭제 완료: 예약 ID={}", reservationId);
         reservationRepository.delete(reservation);
     }
@@ -183,37 +199,21 @@ public class UserReservationService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime start = reservation.getStartDateTime();
 
-        if (now.isBefore(start.minusMinutes(10)) || now.isAfter(start.plusMinutes(10))) {
+        if (now.isBefore(start.minusMinutes(10)) || now.isAfter(start.plusMinutes(NO_SHOW_GRACE_MINUTES))) {
             log.error("체크인 실패 - 입장 가능 시간 아님");
             throw new IllegalStateException("도착 확인 가능 시간이 아닙니다.");
         }
 
         reservation.updateStatus(COMPLETED);
+        bookingCoordinator.release(reservation);
+        reservationEventPublisher.publish(storeId,
+                ReservationDto.ReservationEventResponse.of(ReservationEventType.CHECKED_IN, reservation));
 
         log.info("체크인 완료: 예약 ID={}", reservationId);
         return ReservationDto.ReservationResponse.from(reservation);
     }
 
 
-    /**
-     * 스케쥴러를 통해 5분 간격으로 예약의 노쇼를 처리합니다.
-     */
-    @Scheduled(fixedRate = 300000)
-    public void handleNoShows() {
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Reservation> expiredReservations = reservationRepository
-                .findByStatusAndStartDateTimeBefore(CONFIRMED, now.minusMinutes(10));
-
-        for (Reservation reservation : expiredReservations) {
-            if (reservation.getStatus().isNoShow(now, reservation.getStartDateTime())) {
-                log.info("노쇼 처리됨: {}", reservation.getReservationId());
-                reservation.updateStatus(CANCELLED);
-            }
-        }
-    }
-
-
     /**
      * 지정된 테이블이 요청한 시간대에 예약 가능한지 검증합니다.
      * - 지나간 시간 예약 불가
@@ -246,7 +246,7 @@ public class UserReservationService {
             throw new IllegalArgumentException("예약 시간은 30분 단위로만 가능합니다.");
         }
 
-        boolean isReserved = reservationRepository.isTableReserved(tableId, start, end);
+        boolean isReserved = bookingCoordinator.isReserved(tableId, start, end);
 
         if (isReserved) {
             log.error("예약 실패 - 이미 예약된 시간: {}", start);
@@ -331,14 +331,14 @@ public class UserReservationService {
      * @throws RuntimeException 사용자 불일치 시 예외 발생
      */
     private static void validateReservationOwner(Reservation reservation, CustomUserDetails user) {
-        String ownerPhone = reservation.getUser().getPhone();
-        String requestUser = user.getUsername();
+        // 연관 사용자를 읽지 않도록 ID로 비교
+        Long ownerId = reservation.getUser().getId();
 
-        if (!ownerPhone.equals(requestUser)) {
-            log.error("예약자 불일치: 예약자={}, 요청자={}", ownerPhone, requestUser);
+        if (!ownerId.equals(user.getId())) {
+            log.error("예약자 불일치: 예약자 ID={}, 요청자 ID={}", ownerId, user.getId());
             throw new RuntimeException("해당 작업을 수행할 권한이 없습니다.");
         }
 
-        log.debug("예약자 확인 완료: {}", ownerPhone);
+        log.debug("예약자 확인 완료: {}", ownerId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ian.tablereservation.reservation.domain;
+
+import java.time.LocalDateTime;
+
+public interface ConfirmedReservationView {
+    Long getId();
+
+    Long getReservationId();
+
+    Long getStoreId();
+
+    Long getTableId();
+
+    LocalDateTime getStartDateTime();
+
+    LocalDateTime getEndDateTime();
+}
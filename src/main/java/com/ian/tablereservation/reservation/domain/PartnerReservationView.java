@@ -0,0 +1,23 @@
+package com.ian.tablereservation.reservation.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점장용 예약 목록에 필요한 컬럼만 담는 프로젝션입니다.
+ */
+public interface PartnerReservationView {
+
+    Long getId();
+
+    Long getReservationId();
+
+    Long getTableId();
+
+    String getPhone();
+
+    Integer getNumberOfPeople();
+
+    LocalDateTime getStartDateTime();
+
+    ReservationStatus getStatus();
+}
@@ -18,7 +18,14 @@ import static com.ian.tablereservation.reservation.domain.ReservationStatus.REQU
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        indexes = {
+                @Index(name = "idx_reservations_status_start", columnList = "status, start_date_time"),
+                @Index(name = "idx_reservations_store_status_start", columnList = "store_id, status, start_date_time"),
+                @Index(name = "idx_reservations_store_start_id", columnList = "store_id, start_date_time, id")
+        }
+)
 public class Reservation extends BaseEntity {
 
     @Column(unique = true, nullable = false)
@@ -36,18 +43,20 @@ public class Reservation extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ReservationStatus status;
 
-    @ManyToOne
+    // 연관 엔티티는 지연 로딩하며, 조회 용도별로 필요한 연관만 리포지토리의 엔티티 그래프로 함께 읽음
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     private Store store;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "table_id")
     private StoreTable table;
 
+    // 연관관계의 주인이 아닌 일대일은 지연 로딩되지 않으므로, 엔티티를 읽는 조회에서는 그래프에 포함해 조인으로 읽음
     @OneToOne(mappedBy = "reservation", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private Review review;
 
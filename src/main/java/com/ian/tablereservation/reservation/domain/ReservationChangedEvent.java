@@ -0,0 +1,28 @@
+package com.ian.tablereservation.reservation.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스에서 중계되어 싱크로 전달되는 예약 상태 변경 이벤트입니다.
+ * 같은 예약의 이벤트는 outboxId 순서대로 전달됩니다.
+ *
+ * @param outboxId      아웃박스 행 ID (전달 중복 제거 키로 사용 가능)
+ * @param reservationId 예약 번호
+ * @param storeId       가게 고유 ID
+ * @param type          이벤트 종류
+ * @param status        변경 후 예약 상태
+ * @param tableId       테이블 ID
+ * @param startDateTime 예약 시작 시각
+ * @param occurredAt    변경이 커밋된 트랜잭션에서 기록된 시각
+ */
+public record ReservationChangedEvent(
+        Long outboxId,
+        Long reservationId,
+        Long storeId,
+        ReservationEventType type,
+        ReservationStatus status,
+        Long tableId,
+        LocalDateTime startDateTime,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.ian.tablereservation.reservation.domain;
+
+/**
+ * 점장에게 실시간으로 전달되는 예약 생애주기 이벤트 종류입니다.
+ */
+public enum ReservationEventType {
+    CREATED,
+    UPDATED,
+    CANCELLED,
+    APPROVED,
+    REJECTED,
+    CHECKED_IN,
+    NO_SHOW
+}
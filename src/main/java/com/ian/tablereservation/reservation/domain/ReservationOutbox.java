@@ -0,0 +1,76 @@
+package com.ian.tablereservation.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 상태 변경과 같은 트랜잭션에서 기록되는 아웃박스 행입니다.
+ * 중계기가 ID 순서로 읽어 싱크에 전달한 뒤 published_at을 채웁니다.
+ * 재시도 한도를 넘긴 행은 failed로 표시되어 더 이상 전달되지 않습니다.
+ * 인스턴스마다 미리 할당받는 시퀀스 ID는 기록 순서와 어긋날 수 있으므로, 전달 순서의 기준이 되는 ID는 IDENTITY로 발급합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "reservation_outbox",
+        indexes = @Index(name = "idx_reservation_outbox_published", columnList = "published_at, id")
+)
+@EntityListeners(AuditingEntityListener.class)
+public class ReservationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus reservationStatus;
+
+    private Long tableId;
+
+    private LocalDateTime startDateTime;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private boolean failed;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public ReservationChangedEvent toEvent() {
+        return new ReservationChangedEvent(
+                id, reservationId, storeId, eventType, reservationStatus, tableId, startDateTime, occurredAt);
+    }
+}
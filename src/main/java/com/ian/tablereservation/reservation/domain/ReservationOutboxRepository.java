@@ -0,0 +1,53 @@
+package com.ian.tablereservation.reservation.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutbox, Long> {
+
+    /**
+     * 아직 전달되지 않은 행을 ID 순서로 조회합니다. (published_at, id) 인덱스 범위만 읽습니다.
+     */
+    @Query("""
+            select o from ReservationOutbox o
+            where o.publishedAt is null
+            order by o.id
+            """)
+    List<ReservationOutbox> findUnpublished(Limit limit);
+
+    @Modifying
+    @Query("""
+            update ReservationOutbox o
+            set o.publishedAt = :now, o.attempts = o.attempts + 1, o.updatedAt = :now
+            where o.id in :ids
+            """)
+    int markPublished(Collection<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReservationOutbox o
+            set o.publishedAt = :now, o.attempts = o.attempts + 1, o.failed = true, o.updatedAt = :now
+            where o.id in :ids
+            """)
+    int markFailed(Collection<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReservationOutbox o
+            set o.attempts = o.attempts + 1, o.updatedAt = :now
+            where o.id in :ids
+            """)
+    int incrementAttempts(Collection<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("delete from ReservationOutbox o where o.publishedAt < :cutoff")
+    int deletePublishedBefore(LocalDateTime cutoff);
+}
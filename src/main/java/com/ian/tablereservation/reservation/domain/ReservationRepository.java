@@ -1,17 +1,31 @@
 package com.ian.tablereservation.reservation.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+    /**
+     * 예약 상세 조회/변경용. 응답에 필요한 가게와 예약자, 리뷰 여부를 한 번의 쿼리로 함께 읽습니다.
+     */
+    @EntityGraph(attributePaths = {"store", "user", "review"})
     Optional<Reservation> findByReservationIdAndStore_StoreId(Long reservationId, Long storeId);
 
+    /**
+     * 리뷰 작성/수정용. 연관관계의 주인이 아닌 리뷰만 함께 읽고, 가게와 예약자는 ID만 사용합니다.
+     */
+    @EntityGraph(attributePaths = "review")
     Optional<Reservation> findByReservationId(Long reservationId);
 
     @Query("""
@@ -25,5 +39,149 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             """)
     boolean isTableReserved(Long tableId, LocalDateTime start, LocalDateTime end);
 
-    List<Reservation> findByStatusAndStartDateTimeBefore(ReservationStatus status, LocalDateTime thresholdTime);
+    @Query("""
+            select r.id as id, r.reservationId as reservationId, r.store.storeId as storeId,
+                   r.table.id as tableId, r.startDateTime as startDateTime, r.endDateTime as endDateTime
+            from Reservation r
+            where r.status = 'CONFIRMED'
+            and r.startDateTime < :threshold
+            order by r.startDateTime asc, r.id asc
+            """)
+    List<ConfirmedReservationView> findOverdueConfirmed(LocalDateTime threshold, Limit limit);
+
+    @Query("""
+            select r.id as id, r.reservationId as reservationId, r.store.storeId as storeId,
+                   r.table.id as tableId, r.startDateTime as startDateTime, r.endDateTime as endDateTime
+            from Reservation r
+            where r.reservationId in :reservationIds
+            and r.status = 'CONFIRMED'
+            and r.startDateTime < :threshold
+            """)
+    List<ConfirmedReservationView> findOverdueConfirmedIn(Collection<Long> reservationIds, LocalDateTime threshold);
+
+    /**
+     * 점장용 예약 목록을 (시작 시각, ID) 키셋으로 조회합니다.
+     * (store_id, status, start_date_time) 인덱스 범위만 읽으며, 첫 페이지는 조회 시작 시각과 ID 0을 커서로 사용합니다.
+     */
+    @Query("""
+            select r.id as id, r.reservationId as reservationId, r.table.id as tableId, u.phone as phone,
+                   r.numberOfPeople as numberOfPeople, r.startDateTime as startDateTime, r.status as status
+            from Reservation r
+            join r.user u
+            where r.store.id = :storeId
+            and r.status = :status
+            and r.startDateTime < :to
+            and (r.startDateTime > :afterStart or (r.startDateTime = :afterStart and r.id > :afterId))
+            order by r.startDateTime asc, r.id asc
+            """)
+    List<PartnerReservationView> findStoreFeedByStatus(
+            Long storeId, ReservationStatus status, LocalDateTime to,
+            LocalDateTime afterStart, Long afterId, Limit limit
+    );
+
+    /**
+     * 상태 구분 없이 점장용 예약 목록을 (시작 시각, ID) 키셋으로 조회합니다.
+     */
+    @Query("""
+            select r.id as id, r.reservationId as reservationId, r.table.id as tableId, u.phone as phone,
+                   r.numberOfPeople as numberOfPeople, r.startDateTime as startDateTime, r.status as status
+            from Reservation r
+            join r.user u
+            where r.store.id = :storeId
+            and r.startDateTime < :to
+            and (r.startDateTime > :afterStart or (r.startDateTime = :afterStart and r.id > :afterId))
+            order by r.startDateTime asc, r.id asc
+            """)
+    List<PartnerReservationView> findStoreFeed(
+            Long storeId, LocalDateTime to, LocalDateTime afterStart, Long afterId, Limit limit
+    );
+
+    /**
+     * 가게에 속한 예약들의 슬롯 정보와 상태를 한 번에 조회합니다. 일괄 승인/거절에 사용합니다.
+     */
+    @Query("""
+            select r.id as id, r.reservationId as reservationId, s.storeId as storeId, r.table.id as tableId,
+                   r.startDateTime as startDateTime, r.endDateTime as endDateTime, r.status as status
+            from Reservation r
+            join r.store s
+            where s.id = :storeId
+            and r.reservationId in :reservationIds
+            """)
+    List<ReservationStateView> findStatesByStoreAndReservationIdIn(Long storeId, Collection<Long> reservationIds);
+
+    @Query("""
+            select r.reservationId as reservationId, r.startDateTime as startDateTime
+            from Reservation r
+            where r.status = 'CONFIRMED'
+            """)
+    List<ReservationStartView> findConfirmedStarts();
+
+    /**
+     * 주어진 예약 중 아직 확정 상태인 행만 쓰기 잠금을 걸고 ID를 반환합니다.
+     * 잠금은 트랜잭션이 끝날 때까지 유지되어 그 사이 체크인/취소와 겹치지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select r.id from Reservation r
+            where r.id in :ids
+            and r.status = 'CONFIRMED'
+            """)
+    List<Long> lockConfirmedIds(Collection<Long> ids);
+
+    /**
+     * 확정 상태인 예약만 일괄로 상태를 변경합니다. 벌크 연산은 감사(auditing)를 거치지 않으므로 수정 시각을 함께 갱신합니다.
+     */
+    @Modifying
+    @Query("""
+            update Reservation r
+            set r.status = :status, r.updatedAt = :now
+            where r.id in :ids
+            and r.status = 'CONFIRMED'
+            """)
+    int updateConfirmedStatus(Collection<Long> ids, ReservationStatus status, LocalDateTime now);
+
+    /**
+     * 승인 대기 상태인 예약만 일괄로 상태를 변경합니다.
+     */
+    @Modifying
+    @Query("""
+            update Reservation r
+            set r.status = :status, r.updatedAt = :now
+            where r.id in :ids
+            and r.status = 'REQUESTED'
+            """)
+    int updatePendingStatus(Collection<Long> ids, ReservationStatus status, LocalDateTime now);
+
+    @Query("""
+            select r.table.id as tableId, r.startDateTime as startDateTime, r.endDateTime as endDateTime
+            from Reservation r
+            where r.status = 'CONFIRMED'
+            and r.endDateTime > :from
+            """)
+    List<ReservationSlotView> findConfirmedSlotsEndingAfter(LocalDateTime from);
+
+    /**
+     * 슬롯 행이 없는 확정 예약을 ID 순서로 조회합니다. (슬롯 테이블 도입 이전에 확정된 예약의 슬롯 보충용)
+     */
+    @Query("""
+            select r.id as id, r.reservationId as reservationId, r.store.storeId as storeId,
+                   r.table.id as tableId, r.startDateTime as startDateTime, r.endDateTime as endDateTime
+            from Reservation r
+            where r.status = 'CONFIRMED'
+            and r.endDateTime > :from
+            and r.id > :id
+            and not exists (select 1 from ReservationSlot s where s.reservationId = r.reservationId)
+            order by r.id asc
+            """)
+    List<ConfirmedReservationView> findConfirmedWithoutSlots(LocalDateTime from, Long id, Limit limit);
+
+    @Query("""
+            select r.table.id as tableId, r.startDateTime as startDateTime, r.endDateTime as endDateTime
+            from Reservation r
+            where r.store.storeId = :storeId
+            and r.status = 'CONFIRMED'
+            and r.startDateTime < :to
+            and r.endDateTime > :from
+            """)
+    List<ReservationSlotView> findConfirmedSlotsByStore(Long storeId, LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.ian.tablereservation.reservation.domain;
+
+import com.ian.tablereservation.common.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 확정된 예약이 점유한 테이블의 30분 슬롯입니다.
+ * (table_id, slot_start) 유니크 키로 같은 슬롯이 두 번 확정되는 것을 DB 수준에서 막습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "reservation_slots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_slots_table_slot", columnNames = {"table_id", "slot_start"}
+        ),
+        indexes = @Index(name = "idx_reservation_slots_reservation", columnList = "reservation_id")
+)
+public class ReservationSlot extends BaseEntity {
+
+    @Column(name = "table_id", nullable = false)
+    private Long tableId;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+}
@@ -0,0 +1,37 @@
+package com.ian.tablereservation.reservation.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from ReservationSlot s where s.reservationId = :reservationId")
+    void deleteByReservationId(Long reservationId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ReservationSlot s where s.reservationId in :reservationIds")
+    int deleteByReservationIdIn(Collection<Long> reservationIds);
+
+    /**
+     * 테이블들의 기간 내 점유 슬롯을 조회합니다. (table_id, slot_start) 유니크 인덱스 범위만 읽습니다.
+     */
+    @Query("""
+            select s.tableId as tableId, s.slotStart as slotStart
+            from ReservationSlot s
+            where s.tableId in :tableIds
+            and s.slotStart >= :from
+            and s.slotStart < :to
+            """)
+    List<SlotView> findOccupied(Collection<Long> tableIds, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,11 @@
+package com.ian.tablereservation.reservation.domain;
+
+import java.time.LocalDateTime;
+
+public interface ReservationSlotView {
+    Long getTableId();
+
+    LocalDateTime getStartDateTime();
+
+    LocalDateTime getEndDateTime();
+}
@@ -0,0 +1,9 @@
+package com.ian.tablereservation.reservation.domain;
+
+import java.time.LocalDateTime;
+
+public interface ReservationStartView {
+    Long getReservationId();
+
+    LocalDateTime getStartDateTime();
+}
@@ -0,0 +1,9 @@
+package com.ian.tablereservation.reservation.domain;
+
+/**
+ * 일괄 승인/거절 대상 예약의 슬롯 정보와 현재 상태를 담는 프로젝션입니다.
+ */
+public interface ReservationStateView extends ConfirmedReservationView {
+
+    ReservationStatus getStatus();
+}
@@ -8,12 +8,17 @@ public enum ReservationStatus {
     CANCELLED,
     COMPLETED;
 
+    /**
+     * 예약 시작 후 이 시간(분)이 지나도록 체크인하지 않으면 노쇼로 처리
+     */
+    public static final int NO_SHOW_GRACE_MINUTES = 10;
+
     public boolean canCheckin() {
         return this == CONFIRMED;
     }
 
     public boolean isNoShow(LocalDateTime now, LocalDateTime start) {
-        return this == CONFIRMED && now.isAfter(start.plusMinutes(10));
+        return this == CONFIRMED && now.isAfter(start.plusMinutes(NO_SHOW_GRACE_MINUTES));
     }
 
     public boolean isNotPending() {
@@ -0,0 +1,13 @@
+package com.ian.tablereservation.reservation.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점유된 테이블 슬롯의 (테이블, 슬롯 시작) 키만 담는 프로젝션입니다.
+ */
+public interface SlotView {
+
+    Long getTableId();
+
+    LocalDateTime getSlotStart();
+}
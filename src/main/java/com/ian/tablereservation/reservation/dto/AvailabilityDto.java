@@ -0,0 +1,32 @@
+package com.ian.tablereservation.reservation.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class AvailabilityDto {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AvailabilityResponse {
+        private Long storeId;
+        private LocalDate date;
+        private Integer numberOfPeople;
+        private List<TableAvailability> tables;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TableAvailability {
+        private Long tableId;
+        private Integer number;
+        private Integer capacity;
+        private List<LocalTime> times;
+    }
+}
@@ -1,14 +1,20 @@
 package com.ian.tablereservation.reservation.dto;
 
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.PartnerReservationView;
 import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationEventType;
 import com.ian.tablereservation.reservation.domain.ReservationStatus;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 public class ReservationDto {
     @Getter
@@ -62,4 +68,124 @@ public class ReservationDto {
                     .build();
         }
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PartnerReservationResponse {
+        private Long reservationId;
+        private Long tableId;
+        private String phone;
+        private Integer numberOfPeople;
+        private LocalDate date;
+        private LocalTime time;
+        private ReservationStatus status;
+
+        public static PartnerReservationResponse from(PartnerReservationView reservation) {
+            return PartnerReservationResponse.builder()
+                    .reservationId(reservation.getReservationId())
+                    .tableId(reservation.getTableId())
+                    .phone(reservation.getPhone())
+                    .numberOfPeople(reservation.getNumberOfPeople())
+                    .date(reservation.getStartDateTime().toLocalDate())
+                    .time(reservation.getStartDateTime().toLocalTime())
+                    .status(reservation.getStatus())
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReservationEventResponse {
+        private ReservationEventType type;
+        private Long reservationId;
+        private Long tableId;
+        private LocalDate date;
+        private LocalTime time;
+        private ReservationStatus status;
+
+        public static ReservationEventResponse of(ReservationEventType type, Reservation reservation) {
+            return of(type, reservation, reservation.getStatus());
+        }
+
+        public static ReservationEventResponse of(
+                ReservationEventType type, Reservation reservation, ReservationStatus status
+        ) {
+            return ReservationEventResponse.builder()
+                    .type(type)
+                    .reservationId(reservation.getReservationId())
+                    .tableId(reservation.getTable().getId())
+                    .date(reservation.getStartDateTime().toLocalDate())
+                    .time(reservation.getStartDateTime().toLocalTime())
+                    .status(status)
+                    .build();
+        }
+
+        public static ReservationEventResponse of(
+                ReservationEventType type, ConfirmedReservationView reservation, ReservationStatus status
+        ) {
+            return ReservationEventResponse.builder()
+                    .type(type)
+                    .reservationId(reservation.getReservationId())
+                    .tableId(reservation.getTableId())
+                    .date(reservation.getStartDateTime().toLocalDate())
+                    .time(reservation.getStartDateTime().toLocalTime())
+                    .status(status)
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BatchRequest {
+
+        @NotEmpty
+        @Size(max = 100)
+        private List<@NotNull Long> reservationIds;
+    }
+
+    public enum BatchOutcome {
+        APPROVED,
+        REJECTED,
+        NOT_FOUND,
+        NOT_PENDING,
+        SLOT_CONFLICT
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BatchItemResult {
+        private Long reservationId;
+        private BatchOutcome outcome;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BatchResponse {
+        private int succeeded;
+        private int failed;
+        private List<BatchItemResult> results;
+
+        public static BatchResponse of(List<BatchItemResult> results) {
+            int succeeded = (int) results.stream()
+                    .filter(result -> result.getOutcome() == BatchOutcome.APPROVED
+                            || result.getOutcome() == BatchOutcome.REJECTED)
+                    .count();
+
+            return BatchResponse.builder()
+                    .succeeded(succeeded)
+                    .failed(results.size() - succeeded)
+                    .results(results)
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.ian.tablereservation.reservation.ui;
+
+import com.ian.tablereservation.reservation.application.AvailabilityService;
+import com.ian.tablereservation.reservation.dto.AvailabilityDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/stores/{storeId}/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+
+    /**
+     * 지정한 날짜에 인원을 수용할 수 있는 테이블과 예약 가능한 시간을 조회합니다.
+     *
+     * @param storeId 가게 고유 ID
+     * @param date    조회 날짜 (yyyy-MM-dd)
+     * @param people  예약 인원
+     * @return 테이블별 예약 가능 시간 목록
+     */
+    @GetMapping
+    public ResponseEntity<?> getAvailability(
+            @PathVariable Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "1") Integer people
+    ) {
+        log.info("예약 가능 시간 조회 요청 수신: 가게 ID={}, 날짜={}, 인원={}", storeId, date, people);
+
+        AvailabilityDto.AvailabilityResponse response =
+                availabilityService.getAvailability(storeId, date, people);
+
+        log.info("예약 가능 시간 조회 완료: 예약 가능 테이블 {}건", response.getTables().size());
+        return ResponseEntity.ok(response);
+    }
+}
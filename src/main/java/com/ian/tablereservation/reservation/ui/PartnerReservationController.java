@@ -1,18 +1,26 @@
 package com.ian.tablereservation.reservation.ui;
 
+import com.ian.tablereservation.common.dto.CursorPageResponse;
 import com.ian.tablereservation.common.security.CustomUserDetails;
 import com.ian.tablereservation.reservation.application.PartnerReservationService;
+import com.ian.tablereservation.reservation.domain.ReservationStatus;
 import com.ian.tablereservation.reservation.dto.ReservationDto;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
 
 @Slf4j
 @RestController
-@RequestMapping("/stores/{storeId}/reservations/{reservationId}")
+@RequestMapping("/stores/{storeId}/reservations")
 @RequiredArgsConstructor
 @PreAuthorize("hasRole('PARTNER')")
 public class PartnerReservationController {
@@ -20,6 +28,112 @@ public class PartnerReservationController {
     private final PartnerReservationService reservationService;
 
 
+    /**
+     * 가게의 예약 목록을 시작 시각 순으로 조회합니다.
+     * 요청자는 해당 가게의 점장이어야 합니다.
+     *
+     * @param storeId 가게 고유 ID
+     * @param status  예약 상태 (선택)
+     * @param from    조회 시작 날짜 (yyyy-MM-dd, 선택)
+     * @param to      조회 종료 날짜 (yyyy-MM-dd, 선택)
+     * @param cursor  이전 페이지의 마지막 위치 (첫 페이지는 생략)
+     * @param size    페이지 크기
+     * @param user    인증된 파트너 사용자 정보
+     * @return 예약 목록 페이지
+     */
+    @GetMapping
+    public ResponseEntity<?> getStoreReservations(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("가게 예약 목록 조회 요청 수신: storeId={}, status={}, manager={}", storeId, status, user.getUsername());
+
+        CursorPageResponse<ReservationDto.PartnerReservationResponse> response =
+                reservationService.getStoreReservations(storeId, status, from, to, cursor, size, user);
+
+        log.info("가게 예약 목록 조회 완료: {}건", response.getItems().size());
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 가게의 예약 이벤트를 SSE로 구독합니다.
+     * 연결이 끊기면 클라이언트가 보내는 Last-Event-ID 이후의 이벤트부터 이어서 전달되며,
+     * 이어서 전달할 수 없으면 resync 이벤트가 전달되므로 예약 목록을 다시 조회해야 합니다.
+     * 연결된 인스턴스에서 처리된 변경만 전달되며, 여러 인스턴스로 운영하면 다른 인스턴스에서 처리된 변경은 전달되지 않습니다.
+     *
+     * @param storeId     가게 고유 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID (선택)
+     * @param user        인증된 파트너 사용자 정보
+     * @return 이벤트 스트림
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(
+            @PathVariable Long storeId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("예약 이벤트 구독 요청 수신: storeId={}, manager={}", storeId, user.getUsername());
+        return reservationService.subscribeEvents(storeId, lastEventId, user);
+    }
+
+
+    /**
+     * 여러 예약을 한 번에 승인합니다.
+     * 이미 확정된 예약과 시간이 겹치는 예약 등 처리할 수 없는 예약은 건별 결과로 반환됩니다.
+     *
+     * @param storeId 가게 고유 ID
+     * @param request 승인할 예약 ID 목록 (최대 100건)
+     * @param user    인증된 파트너 사용자 정보
+     * @return 예약별 처리 결과
+     */
+    @PostMapping("/approve")
+    public ResponseEntity<?> approveReservations(
+            @PathVariable Long storeId,
+            @Valid @RequestBody ReservationDto.BatchRequest request,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("예약 일괄 승인 요청 수신: storeId={}, 요청 수={}, manager={}",
+                storeId, request.getReservationIds().size(), user.getUsername());
+
+        ReservationDto.BatchResponse response =
+                reservationService.approveReservations(storeId, request.getReservationIds(), user);
+
+        log.info("예약 일괄 승인 완료: 성공={}, 실패={}", response.getSucceeded(), response.getFailed());
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 여러 예약을 한 번에 거절합니다.
+     *
+     * @param storeId 가게 고유 ID
+     * @param request 거절할 예약 ID 목록 (최대 100건)
+     * @param user    인증된 파트너 사용자 정보
+     * @return 예약별 처리 결과
+     */
+    @PostMapping("/reject")
+    public ResponseEntity<?> rejectReservations(
+            @PathVariable Long storeId,
+            @Valid @RequestBody ReservationDto.BatchRequest request,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("예약 일괄 거절 요청 수신: storeId={}, 요청 수={}, manager={}",
+                storeId, request.getReservationIds().size(), user.getUsername());
+
+        ReservationDto.BatchResponse response =
+                reservationService.rejectReservations(storeId, request.getReservationIds(), user);
+
+        log.info("예약 일괄 거절 완료: 성공={}, 실패={}", response.getSucceeded(), response.getFailed());
+        return ResponseEntity.ok(response);
+    }
+
+
     /**
      * 예약을 승인합니다.
      * 요청자는 PARTNER 권한을 보유하고 있어야 합니다.
@@ -29,7 +143,7 @@ public class PartnerReservationController {
      * @param user          인증된 파트너 사용자 정보
      * @return 승인된 예약 응답
      */
-    @PostMapping("/approve")
+    @PostMapping("/{reservationId}/approve")
     public ResponseEntity<?> approveReservation(
             @PathVariable Long storeId,
             @PathVariable Long reservationId,
@@ -53,7 +167,7 @@ public class PartnerReservationController {
      * @param user          인증된 파트너 사용자 정보
      * @return 거절된 예약 응답
      */
-    @PostMapping("reject")
+    @PostMapping("/{reservationId}/reject")
     public ResponseEntity<?> rejectReservation(
             @PathVariable Long storeId,
             @PathVariable Long reservationId,
@@ -1,20 +1,32 @@
 package com.ian.tablereservation.review.application;
 
+import com.ian.tablereservation.common.dto.CursorPageResponse;
 import com.ian.tablereservation.common.security.CustomUserDetails;
+import com.ian.tablereservation.common.support.CursorCodec;
+import com.ian.tablereservation.common.support.Transactions;
 import com.ian.tablereservation.reservation.domain.Reservation;
 import com.ian.tablereservation.reservation.domain.ReservationRepository;
 import com.ian.tablereservation.review.domain.Review;
 import com.ian.tablereservation.review.domain.ReviewRepository;
+import com.ian.tablereservation.review.domain.StoreReviewView;
 import com.ian.tablereservation.review.dto.ReviewDto;
+import com.ian.tablereservation.store.application.StoreDetailCache;
+import com.ian.tablereservation.store.domain.Store;
+import com.ian.tablereservation.store.domain.StoreRepository;
 import com.ian.tablereservation.user.domain.User;
+import com.ian.tablereservation.user.domain.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Optional;
 
 import static com.ian.tablereservation.common.enums.Role.ROLE_PARTNER;
@@ -24,8 +36,13 @@ import static com.ian.tablereservation.common.enums.Role.ROLE_PARTNER;
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
     private final ReviewRepository reviewRepository;
+    private final StoreRepository storeRepository;
+    private final StoreDetailCache storeDetailCache;
+    private final UserRepository userRepository;
 
 
     /**
@@ -60,7 +77,7 @@ public class ReviewService {
                 .rating(request.getRating())
                 .content(request.getContent())
                 .image(Optional.ofNullable(request.getImage()).orElse(""))
-                .user(user.getUser())
+                .user(userRepository.getReferenceById(user.getId()))
                 .reservation(reservation)
                 .build();
 
@@ -68,7 +85,7 @@ public class ReviewService {
 
         Review result = reviewRepository.save(review);
 
-        updateStoreRating(reservation);
+        applyStoreRating(reservation.getStore(), request.getRating(), 0);
 
         log.info("리뷰 생성 완료: reviewId={}, reservationId={}", review.getId(), reservationId);
         return ReviewDto.ReviewResponse.from(result);
@@ -90,6 +107,59 @@ public class ReviewService {
     }
 
 
+    /**
+     * 리뷰 수정 시각을 조회합니다. 조건부 요청(ETag/Last-Modified) 검증에 사용하며 리뷰와 작성자를 읽지 않습니다.
+     *
+     * @param reservationId 예약 ID
+     * @param reviewId      리뷰 ID
+     * @return 리뷰 수정 시각 (리뷰가 없으면 빈 값)
+     */
+    public Optional<LocalDateTime> getReviewModifiedAt(Long reservationId, Long reviewId) {
+        return reviewRepository.findUpdatedAtByIdAndReservationId(reviewId, reservationId);
+    }
+
+
+    /**
+     * 가게의 리뷰 목록을 한 페이지씩 조회합니다.
+     * 최신순은 (작성 시각, ID), 별점순은 (별점, ID) 키셋 커서로 다음 페이지를 조회합니다.
+     *
+     * @param storeId 가게 고유 번호
+     * @param sort    정렬 기준 (latest (default), rating)
+     * @param cursor  이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 리뷰 목록 페이지
+     * @throws EntityNotFoundException  가게가 존재하지 않는 경우
+     * @throws IllegalArgumentException 커서가 올바르지 않은 경우
+     */
+    public CursorPageResponse<ReviewDto.ReviewResponse> getStoreReviews(
+            Long storeId, String sort, String cursor, int size
+    ) {
+        log.debug("가게 리뷰 목록 조회 시도: storeId={}, sort={}, cursor={}", storeId, sort, cursor);
+
+        Long storePk = storeRepository.findIdByStoreId(storeId)
+                .orElseThrow(() -> {
+                    log.error("가게 리뷰 목록 조회 실패 - 가게 없음: storeId={}", storeId);
+                    return new EntityNotFoundException("가게 정보를 찾을 수 없습니다.");
+                });
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean byRating = "rating".equals(sort);
+        List<StoreReviewView> rows = findStoreReviewPage(storePk, byRating, cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<StoreReviewView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            StoreReviewView last = page.get(page.size() - 1);
+            nextCursor = byRating
+                    ? CursorCodec.encode(last.getRating(), last.getId())
+                    : CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorPageResponse.of(page.stream().map(ReviewDto.ReviewResponse::from).toList(), nextCursor);
+    }
+
+
     /**
      * 리뷰를 수정하고 필요한 경우 가게의 평점을 갱신합니다.
      * 리뷰의 작성자만 수정할 수 있습니다.
@@ -114,6 +184,7 @@ public class ReviewService {
 
         Reservation reservation = findReservationOrThrow(reservationId);
 
+        int previousRating = review.getRating();
         boolean ratingUpdated = false;
 
         if (request.getRating() != null) {
@@ -134,7 +205,7 @@ public class ReviewService {
 
         if (ratingUpdated) {
             review.linkReservationAndStore(reservation);
-            updateStoreRating(reservation);
+            applyStoreRating(reservation.getStore(), request.getRating(), previousRating);
             log.debug("가게 평점 갱신 완료: storeId={}", review.getReservation().getStore().getId());
         }
 
@@ -155,21 +226,44 @@ public class ReviewService {
         log.info("리뷰 삭제 요청: reservationId={}, reviewId={}, user={}", reservationId, reviewId, user.getUsername());
         Review review = findReviewOrThrow(reservationId, reviewId);
 
-        boolean isPartner = user.getUser().getRole().equals(ROLE_PARTNER);
-        boolean isWriter = review.getUser().getPhone().equals(user.getUsername());
+        boolean isPartner = user.getRole().equals(ROLE_PARTNER);
+        boolean isWriter = review.getUser().getId().equals(user.getId());
 
         if (!isPartner && !isWriter) {
-            log.error("리뷰 삭제 권한 없음: user={}, role={}", user.getUsername(), user.getUser().getRole());
+            log.error("리뷰 삭제 권한 없음: user={}, role={}", user.getUsername(), user.getRole());
             throw new AccessDeniedException("해당 작업을 수행할 권한이 없습니다.");
         }
 
+        Store store = review.getStore();
         reviewRepository.delete(review);
-        updateStoreRating(review.getReservation());
+        applyStoreRating(store, 0, review.getRating());
 
         log.info("리뷰 삭제 완료: reviewId={}", reviewId);
     }
 
 
+    /**
+     * 정렬 기준에 맞는 키셋 쿼리로 커서 다음 위치부터 가게 리뷰를 조회합니다.
+     */
+    private List<StoreReviewView> findStoreReviewPage(Long storePk, boolean byRating, String cursor, Limit limit) {
+        if (cursor == null) {
+            return byRating
+                    ? reviewRepository.findTopRatedByStoreId(storePk, limit)
+                    : reviewRepository.findLatestByStoreId(storePk, limit);
+        }
+
+        String[] values = CursorCodec.decode(cursor, 2);
+        try {
+            Long id = Long.valueOf(values[1]);
+            return byRating
+                    ? reviewRepository.findTopRatedByStoreIdBefore(storePk, Integer.valueOf(values[0]), id, limit)
+                    : reviewRepository.findLatestByStoreIdBefore(storePk, LocalDateTime.parse(values[0]), id, limit);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+
     /**
      * 예약 ID를 기반으로 예약 정보를 조회합니다.
      * 예약 정보가 존재하지 않는 경우 예외를 발생시킵니다.
@@ -216,20 +310,30 @@ public class ReviewService {
      * @param currentUser 현재 로그인한 사용자
      */
     private static void validateReviewAuthor(User targetUser, CustomUserDetails currentUser) {
-        if (!targetUser.getPhone().equals(currentUser.getUsername())) {
-            log.error("리뷰 권한 없음: 작성자={}, 현재 사용자={}", targetUser.getPhone(), currentUser.getUsername());
+        // 연관 사용자를 읽지 않도록 ID로 비교
+        if (!targetUser.getId().equals(currentUser.getId())) {
+            log.error("리뷰 권한 없음: 작성자 ID={}, 현재 사용자 ID={}", targetUser.getId(), currentUser.getId());
             throw new AccessDeniedException("해당 작업을 수행할 권한이 없습니다.");
         }
     }
 
 
     /**
-     * 해당 예약의 가게 평점을 리뷰 평균으로 재계산하여 업데이트합니다.
+     * 가게의 별점 합계, 리뷰 수, 별점별 리뷰 수에 변경분을 반영하고 평균 평점을 갱신합니다.
+     * 전체 리뷰를 다시 집계하지 않으므로 리뷰 수와 관계없이 일정한 비용으로 처리됩니다.
+     * 커밋 이후 가게 상세 캐시도 무효화합니다.
+     *
+     * @param store   리뷰 대상 가게
+     * @param added   추가된 별점 (없으면 0)
+     * @param removed 제거된 별점 (없으면 0)
      */
-    private void updateStoreRating(Reservation reservation) {
-        Long storeId = reservation.getStore().getId();
-        Double rating = reviewRepository.calculateAvgRatingByStore(storeId);
-        reservation.getStore().updateRating(rating);
-        log.debug("가게 평점 업데이트: storeId={}, newRating={}", storeId, rating);
+    private void applyStoreRating(Store store, int added, int removed) {
+        Long storeId = store.getId();
+        Long storeNumber = store.getStoreId();
+
+        storeRepository.applyRatingChange(storeId, added, removed, LocalDateTime.now());
+        storeRepository.refreshRating(storeId);
+        Transactions.afterCommit(() -> storeDetailCache.evict(storeNumber));
+        log.debug("가게 평점 업데이트: storeId={}, 추가 별점={}, 제거 별점={}", storeId, added, removed);
     }
-}
\ No newline at end of file
+}
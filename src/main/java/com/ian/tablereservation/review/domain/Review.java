@@ -15,7 +15,13 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reviews")
+@Table(
+        name = "reviews",
+        indexes = {
+                @Index(name = "idx_reviews_store_id_created_at_id", columnList = "store_id, created_at, id"),
+                @Index(name = "idx_reviews_store_id_rating_id", columnList = "store_id, rating, id")
+        }
+)
 public class Review extends BaseEntity {
 
     @Column(nullable = false)
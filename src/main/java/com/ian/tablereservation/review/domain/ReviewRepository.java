@@ -1,19 +1,95 @@
 package com.ian.tablereservation.review.domain;
 
 import com.ian.tablereservation.reservation.domain.Reservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     boolean existsByReservation(Reservation reservation);
 
+    /**
+     * 응답에 작성자 정보가 필요하므로 작성자를 함께 읽습니다.
+     */
+    @EntityGraph(attributePaths = "user")
     Optional<Review> findByIdAndReservation_ReservationId(Long reviewId, Long reservationId);
 
-    @Query("select avg(r.rating) from Review r where r.reservation.store.id = :storeId")
-    Double calculateAvgRatingByStore(@Param("storeId") Long storeId);
+    /**
+     * 리뷰 수정 시각만 조회합니다. 단건 조회의 조건부 요청 검증에 사용합니다.
+     */
+    @Query("""
+            select r.updatedAt from Review r
+            where r.id = :reviewId
+            and r.reservation.reservationId = :reservationId
+            """)
+    Optional<LocalDateTime> findUpdatedAtByIdAndReservationId(Long reviewId, Long reservationId);
+
+    @Query("""
+            select r.store.id as storeId, coalesce(sum(r.rating), 0) as ratingSum, count(r) as ratingCount,
+                   sum(case when r.rating = 1 then 1 else 0 end) as rating1Count,
+                   sum(case when r.rating = 2 then 1 else 0 end) as rating2Count,
+                   sum(case when r.rating = 3 then 1 else 0 end) as rating3Count,
+                   sum(case when r.rating = 4 then 1 else 0 end) as rating4Count,
+                   sum(case when r.rating = 5 then 1 else 0 end) as rating5Count
+            from Review r
+            where r.store.id in :storeIds
+            group by r.store.id
+            """)
+    List<StoreRatingAggregate> aggregateRatingsByStoreIds(Collection<Long> storeIds);
+
+    /**
+     * 가게 리뷰를 최신순으로 조회합니다. (store_id, created_at, id) 인덱스 범위만 읽습니다.
+     */
+    @Query("""
+            select r.id as id, r.rating as rating, r.content as content, r.image as image,
+                   u.phone as phone, r.createdAt as createdAt
+            from Review r
+            join r.user u
+            where r.store.id = :storeId
+            order by r.createdAt desc, r.id desc
+            """)
+    List<StoreReviewView> findLatestByStoreId(Long storeId, Limit limit);
+
+    @Query("""
+            select r.id as id, r.rating as rating, r.content as content, r.image as image,
+                   u.phone as phone, r.createdAt as createdAt
+            from Review r
+            join r.user u
+            where r.store.id = :storeId
+            and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<StoreReviewView> findLatestByStoreIdBefore(Long storeId, LocalDateTime createdAt, Long id, Limit limit);
+
+    /**
+     * 가게 리뷰를 별점 높은 순으로 조회합니다. (store_id, rating, id) 인덱스 범위만 읽습니다.
+     */
+    @Query("""
+            select r.id as id, r.rating as rating, r.content as content, r.image as image,
+                   u.phone as phone, r.createdAt as createdAt
+            from Review r
+            join r.user u
+            where r.store.id = :storeId
+            order by r.rating desc, r.id desc
+            """)
+    List<StoreReviewView> findTopRatedByStoreId(Long storeId, Limit limit);
+
+    @Query("""
+            select r.id as id, r.rating as rating, r.content as content, r.image as image,
+                   u.phone as phone, r.createdAt as createdAt
+            from Review r
+            join r.user u
+            where r.store.id = :storeId
+            and (r.rating < :rating or (r.rating = :rating and r.id < :id))
+            order by r.rating desc, r.id desc
+            """)
+    List<StoreReviewView> findTopRatedByStoreIdBefore(Long storeId, Integer rating, Long id, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.ian.tablereservation.review.domain;
+
+public interface StoreRatingAggregate {
+    Long getStoreId();
+
+    Long getRatingSum();
+
+    Long getRatingCount();
+
+    Long getRating1Count();
+
+    Long getRating2Count();
+
+    Long getRating3Count();
+
+    Long getRating4Count();
+
+    Long getRating5Count();
+}
@@ -0,0 +1,21 @@
+package com.ian.tablereservation.review.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가게 리뷰 목록에 필요한 컬럼만 담는 프로젝션입니다.
+ */
+public interface StoreReviewView {
+
+    Long getId();
+
+    Integer getRating();
+
+    String getContent();
+
+    String getImage();
+
+    String getPhone();
+
+    LocalDateTime getCreatedAt();
+}
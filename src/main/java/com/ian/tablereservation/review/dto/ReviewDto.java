@@ -1,6 +1,9 @@
 package com.ian.tablereservation.review.dto;
 
 import com.ian.tablereservation.review.domain.Review;
+import com.ian.tablereservation.review.domain.StoreReviewView;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -17,6 +20,8 @@ public class ReviewDto {
     public static class CreateReviewRequest {
 
         @NotNull
+        @Min(1)
+        @Max(5)
         private Integer rating;
 
         @NotEmpty
@@ -31,6 +36,8 @@ public class ReviewDto {
     @Builder
     public static class UpdateReviewRequest {
 
+        @Min(1)
+        @Max(5)
         private Integer rating;
         private String content;
         private String image;
@@ -56,5 +63,15 @@ public class ReviewDto {
                     .writer(review.getUser().getPhone().substring(7))
                     .build();
         }
+
+        public static ReviewResponse from(StoreReviewView review) {
+            return ReviewResponse.builder()
+                    .reviewId(review.getId())
+                    .rating(review.getRating())
+                    .content(review.getContent())
+                    .image(review.getImage())
+                    .writer(review.getPhone().substring(7))
+                    .build();
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.ian.tablereservation.review.ui;
 
 import com.ian.tablereservation.common.security.CustomUserDetails;
+import com.ian.tablereservation.common.support.ETags;
 import com.ian.tablereservation.review.application.ReviewService;
 import com.ian.tablereservation.review.dto.ReviewDto;
 import jakarta.validation.Valid;
@@ -10,6 +11,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -34,7 +39,18 @@ public class ReviewController {
 
 
     @GetMapping("/{reviewId}")
-    public ResponseEntity<?> getReview(@PathVariable Long reservationId, @PathVariable Long reviewId) {
+    public ResponseEntity<?> getReview(
+            @PathVariable Long reservationId,
+            @PathVariable Long reviewId,
+            WebRequest webRequest
+    ) {
+        // 수정 시각으로 먼저 확인하여 변경이 없으면 리뷰와 작성자를 읽지 않고 304로 응답
+        Optional<LocalDateTime> modifiedAt = reviewService.getReviewModifiedAt(reservationId, reviewId);
+        if (modifiedAt.isPresent() && webRequest.checkNotModified(
+                ETags.of(reviewId, modifiedAt.get()), ETags.lastModified(modifiedAt.get()))) {
+            return null;
+        }
+
         ReviewDto.ReviewResponse response = reviewService.getReview(reservationId, reviewId);
 
         return ResponseEntity.ok(response);
@@ -46,7 +62,7 @@ public class ReviewController {
     public ResponseEntity<?> updateReview(
             @PathVariable Long reservationId,
             @PathVariable Long reviewId,
-            @RequestBody ReviewDto.UpdateReviewRequest request,
+            @RequestBody @Valid ReviewDto.UpdateReviewRequest request,
             @AuthenticationPrincipal CustomUserDetails user
     ) {
         ReviewDto.ReviewResponse response = reviewService.updateReview(reservationId, reviewId, request, user);
@@ -0,0 +1,44 @@
+package com.ian.tablereservation.review.ui;
+
+import com.ian.tablereservation.common.dto.CursorPageResponse;
+import com.ian.tablereservation.review.application.ReviewService;
+import com.ian.tablereservation.review.dto.ReviewDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/stores/{storeId}/reviews")
+@RequiredArgsConstructor
+public class StoreReviewController {
+
+    private final ReviewService reviewService;
+
+
+    /**
+     * 가게의 리뷰 목록을 한 페이지씩 조회합니다.
+     *
+     * @param storeId 가게 고유 ID
+     * @param sort    정렬 기준 (최신순(default), 별점순)
+     * @param cursor  이전 페이지의 마지막 위치 (첫 페이지는 생략)
+     * @param size    페이지 크기
+     * @return 리뷰 목록 페이지
+     */
+    @GetMapping
+    public ResponseEntity<?> getStoreReviews(
+            @PathVariable Long storeId,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("가게 리뷰 목록 조회 요청 수신: storeId={}, sort={}", storeId, sort);
+
+        CursorPageResponse<ReviewDto.ReviewResponse> response =
+                reviewService.getStoreReviews(storeId, sort, cursor, size);
+
+        log.info("가게 리뷰 목록 조회 완료: {}건", response.getItems().size());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,174 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.cache.BoundedCache;
+import com.ian.tablereservation.store.domain.GeocodeCacheEntry;
+import com.ian.tablereservation.store.domain.GeocodeCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 카카오 주소 검색 API 앞단의 캐시 계층입니다.
+ * 정규화한 주소를 키로 인메모리 LRU/TTL 캐시 → DB 캐시 테이블 → 외부 API 순으로 조회하며,
+ * 결과가 없는 주소도 짧은 TTL로 캐시하여 같은 주소에 대한 반복 호출을 막습니다.
+ */
+@Slf4j
+@Service
+public class GeocodingService {
+
+    private static final int MAX_CACHE_SIZE = 10_000;
+    private static final Duration FOUND_TTL = Duration.ofDays(30);
+    private static final Duration NOT_FOUND_TTL = Duration.ofHours(6);
+    private static final int MAX_ADDRESS_LENGTH = 500;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final KakaoGeocodingApiService kakaoGeocodingApiService;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final TransactionTemplate requiresNew;
+
+    private final BoundedCache<String, GeocodeResult> cache = new BoundedCache<>(MAX_CACHE_SIZE, FOUND_TTL);
+    private final Counter storeHits;
+    private final Counter apiCalls;
+
+    public GeocodingService(
+            KakaoGeocodingApiService kakaoGeocodingApiService,
+            GeocodeCacheRepository geocodeCacheRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.kakaoGeocodingApiService = kakaoGeocodingApiService;
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("geocode.cache.size", cache, BoundedCache::size)
+                .description("인메모리 지오코딩 캐시 항목 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("geocode.cache.requests", cache, BoundedCache::hitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("geocode.cache.requests", cache, BoundedCache::missCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.storeHits = Counter.builder("geocode.cache.store.hits")
+                .description("인메모리 미스 후 DB 캐시에서 찾은 횟수")
+                .register(meterRegistry);
+        this.apiCalls = Counter.builder("geocode.api.calls")
+                .description("카카오 주소 검색 API 호출 횟수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 주소를 좌표로 변환합니다.
+     *
+     * @param address 변환할 주소
+     * @return 위도/경도 좌표
+     * @throws RuntimeException 주소로 좌표를 찾을 수 없는 경우
+     */
+    public KakaoGeocodingApiService.LatLng getCoordinates(String address) {
+        return findCoordinates(address)
+                .orElseThrow(() -> new RuntimeException("주소로 좌표를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 주소를 좌표로 변환합니다. 좌표를 찾을 수 없으면 빈 값을 반환합니다.
+     */
+    public Optional<KakaoGeocodingApiService.LatLng> findCoordinates(String address) {
+        String key = normalize(address);
+
+        GeocodeResult cached = cache.get(key);
+        if (cached != null) {
+            return cached.coordinates();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Optional<GeocodeCacheEntry> stored = geocodeCacheRepository.findByNormalizedAddress(key);
+        if (stored.isPresent() && !stored.get().isExpired(now)) {
+            storeHits.increment();
+            GeocodeCacheEntry entry = stored.get();
+            GeocodeResult result = GeocodeResult.of(entry);
+            cache.put(key, result, Duration.between(now, entry.getExpiresAt()));
+            return result.coordinates();
+        }
+
+        log.debug("지오코딩 캐시 미스 - 외부 API 호출: {}", key);
+        apiCalls.increment();
+        Optional<KakaoGeocodingApiService.LatLng> coordinates = kakaoGeocodingApiService.findCoordinates(address);
+
+        Duration ttl = coordinates.isPresent() ? FOUND_TTL : NOT_FOUND_TTL;
+        cache.put(key, new GeocodeResult(coordinates), ttl);
+        persist(key, coordinates.orElse(null), now.plus(ttl));
+
+        return coordinates;
+    }
+
+    /**
+     * 캐시 키로 사용할 정규화된 주소를 만듭니다.
+     * 유니코드 호환 정규화(NFKC), 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환을 적용합니다.
+     */
+    public static String normalize(String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("주소가 비어 있습니다.");
+        }
+
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC).strip();
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("주소가 비어 있습니다.");
+        }
+        return normalized.length() > MAX_ADDRESS_LENGTH ? normalized.substring(0, MAX_ADDRESS_LENGTH) : normalized;
+    }
+
+
+    /**
+     * 변환 결과를 별도 트랜잭션으로 저장합니다.
+     * 호출 측 트랜잭션이 롤백되어도 결과는 남고, 저장 실패가 호출 측에 전파되지 않습니다.
+     */
+    private void persist(String key, KakaoGeocodingApiService.LatLng coordinates, LocalDateTime expiresAt) {
+        Double lat = coordinates != null ? coordinates.getLat() : null;
+        Double lng = coordinates != null ? coordinates.getLng() : null;
+
+        try {
+            requiresNew.executeWithoutResult(status -> geocodeCacheRepository.findByNormalizedAddress(key)
+                    .ifPresentOrElse(
+                            entry -> entry.refresh(lat, lng, expiresAt),
+                            () -> geocodeCacheRepository.save(GeocodeCacheEntry.builder()
+                                    .normalizedAddress(key)
+                                    .latitude(lat)
+                                    .longitude(lng)
+                                    .expiresAt(expiresAt)
+                                    .build())
+                    ));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 주소를 먼저 저장한 경우
+            log.debug("지오코딩 캐시 동시 저장 무시: {}", key);
+        } catch (RuntimeException e) {
+            log.warn("지오코딩 캐시 저장 실패: {}", key, e);
+        }
+    }
+
+
+    private record GeocodeResult(Optional<KakaoGeocodingApiService.LatLng> coordinates) {
+        static GeocodeResult of(GeocodeCacheEntry entry) {
+            return new GeocodeResult(entry.isFound()
+                    ? Optional.of(new KakaoGeocodingApiService.LatLng(entry.getLatitude(), entry.getLongitude()))
+                    : Optional.empty());
+        }
+    }
+}
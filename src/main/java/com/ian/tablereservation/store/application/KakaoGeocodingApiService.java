@@ -1,7 +1,8 @@
 package com.ian.tablereservation.store.application;
 
+import com.ian.tablereservation.common.support.CallNotPermittedException;
+import com.ian.tablereservation.common.support.CircuitBreaker;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -9,36 +10,120 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 주소 검색 API 연동입니다.
+ * 동시 호출 수를 세마포어(bulkhead)로 제한하고, 연속 실패 시 서킷 브레이커로 호출을 차단하여
+ * 외부 장애가 서블릿 스레드 고갈로 번지지 않도록 합니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KakaoGeocodingApiService {
     private final RestTemplate restTemplate;
+    private final String apiKey;
+    private final String apiUrl;
+
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+    private final CircuitBreaker circuitBreaker;
+
+    public KakaoGeocodingApiService(
+            RestTemplate restTemplate,
+            @Value("${kakao.api.key}") String apiKey,
+            @Value("${kakao.api.url}") String apiUrl,
+            @Value("${kakao.api.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${kakao.api.bulkhead-wait-ms:200}") long bulkheadWaitMs,
+            @Value("${kakao.api.circuit-failure-threshold:5}") int circuitFailureThreshold,
+            @Value("${kakao.api.circuit-open-ms:30000}") long circuitOpenMs
+    ) {
+        this.restTemplate = restTemplate;
+        this.apiKey = apiKey;
+        this.apiUrl = apiUrl;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.circuitBreaker = new CircuitBreaker(circuitFailureThreshold, Duration.ofMillis(circuitOpenMs));
+    }
 
 
-    @Value("${kakao.api.key}")
-    private String apiKey;
+    public LatLng getCoordinates(String address) {
+        return findCoordinates(address)
+                .orElseThrow(() -> new RuntimeException("주소로 좌표를 찾을 수 없습니다."));
+    }
 
-    @Value("${kakao.api.url}")
-    private String apiUrl;
+    /**
+     * 주소를 좌표로 변환합니다. 검색 결과가 없거나 좌표가 비어 있으면 빈 값을 반환합니다.
+     *
+     * @throws CallNotPermittedException 서킷이 열려 있거나 동시 호출 한도를 넘어 호출하지 않은 경우
+     * @throws IllegalStateException      외부 API 호출이 실패한 경우
+     */
+    public Optional<LatLng> findCoordinates(String address) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("주소 검색 차단 - 서킷 브레이커 열림");
+            throw rejected();
+        }
 
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 결과를 알리지 않으면 HALF_OPEN 시험 호출 자리가 반납되지 않아 서킷이 그 상태로 멈춤
+            circuitBreaker.onFailure();
+            throw unavailable();
+        }
 
-    public LatLng getCoordinates(String address) {
-        log.info("apiKey={}, apiUrl={}", apiKey, apiUrl);
+        if (!acquired) {
+            log.warn("주소 검색 차단 - 동시 호출 한도 초과");
+            // 한도 초과는 외부 응답 지연의 신호이므로 실패로 기록 (HALF_OPEN 시험 호출도 여기서 다시 열림)
+            circuitBreaker.onFailure();
+            throw rejected();
+        }
+
+        try {
+            Optional<LatLng> coordinates = requestCoordinates(address);
+            circuitBreaker.onSuccess();
+            return coordinates;
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            circuitBreaker.onFailure();
+            log.error("주소 검색 API 호출 실패: {}", e.getMessage());
+            throw unavailable();
+        } catch (RestClientException e) {
+            // 4xx 등 요청 자체의 문제는 외부 서비스 장애로 보지 않음
+            circuitBreaker.onSuccess();
+            log.error("주소 검색 API 요청 오류: {}", e.getMessage());
+            throw unavailable();
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
 
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Optional<LatLng> requestCoordinates(String address) {
         URI uri = UriComponentsBuilder.fromHttpUrl(apiUrl)
                 .queryParam("query", address)
                 .build()
                 .encode()
                 .toUri();
 
-        log.info(String.valueOf(uri));
+        log.debug("주소 검색 요청: {}", uri);
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", apiKey);
@@ -51,11 +136,10 @@ public class KakaoGeocodingApiService {
                 KakaoResponse.class
         );
 
-        log.info(response.getBody().toString());
-
-        List<KakaoDocument> documents = response.getBody().getDocuments();
-        if (documents.isEmpty()) {
-            throw new RuntimeException("주소로 좌표를 찾을 수 없습니다.");
+        KakaoResponse body = response.getBody();
+        List<KakaoDocument> documents = body != null ? body.getDocuments() : null;
+        if (documents == null || documents.isEmpty()) {
+            return Optional.empty();
         }
 
         KakaoDocument doc = documents.get(0);
@@ -69,13 +153,21 @@ public class KakaoGeocodingApiService {
                 doc.getAddress() != null ? doc.getAddress().getY() : null,
                 doc.getY());
 
-        log.info("최종 좌표: x={}, y={}", x, y);
+        log.debug("최종 좌표: x={}, y={}", x, y);
 
         if (x == null || y == null) {
-            throw new RuntimeException("좌표 정보가 없습니다.");
+            return Optional.empty();
         }
 
-        return new LatLng(Double.parseDouble(y), Double.parseDouble(x));
+        return Optional.of(new LatLng(Double.parseDouble(y), Double.parseDouble(x)));
+    }
+
+    private static IllegalStateException unavailable() {
+        return new IllegalStateException("위치 서비스를 일시적으로 사용할 수 없습니다.");
+    }
+
+    private static CallNotPermittedException rejected() {
+        return new CallNotPermittedException("위치 서비스를 일시적으로 사용할 수 없습니다.");
     }
 
     private String firstNonNull(String... values) {
@@ -0,0 +1,361 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.support.Hangul;
+import com.ian.tablereservation.store.domain.StoreCompletionView;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 가게 이름 자동 완성을 위한 인메모리 접두사 인덱스입니다.
+ * - 이름을 자모로 분해한 키와 초성 키를 각각 정렬된 배열에 보관하고, 이진 탐색으로 접두사 범위를 찾음
+ *   (노드 객체가 없는 평탄화된 트라이이므로 가게당 키 두 개와 결과 객체 하나만 사용)
+ * - 자모 단위로 비교하므로 입력 중인 글자("강ㄴ", "간")도 "강남"의 접두사로 일치하며, 자음만 입력하면 초성으로도 검색
+ * - 접두사 범위에서 평점이 높은 가게 N개를 반환
+ * 가게 등록/수정/삭제 시 커밋 이후 갱신되고, 평점 변경과 다른 인스턴스의 변경은 주기적인 재구성으로 반영됩니다.
+ * 최대 가게 수를 넘으면 평점이 높은 가게만 보관하여 메모리 사용량을 제한합니다.
+ */
+@Slf4j
+@Component
+public class StoreAutocompleteIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_NAME_LENGTH = 30;
+    private static final int CACHED_PREFIX_LENGTH = 2;
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final Comparator<Completion> RANKING = StoreAutocompleteIndex::compare;
+
+    private final StoreRepository storeRepository;
+    private final int maxEntries;
+
+    private final Map<Long, Indexed> entries = new ConcurrentHashMap<>();
+    private volatile Tables tables = Tables.of(KeyTable.EMPTY, KeyTable.EMPTY);
+    private volatile boolean ready = false;
+
+    public StoreAutocompleteIndex(
+            StoreRepository storeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${store.autocomplete.max-entries:200000}") int maxEntries
+    ) {
+        this.storeRepository = storeRepository;
+        this.maxEntries = maxEntries;
+
+        Gauge.builder("store.autocomplete.entries", entries, Map::size)
+                .description("자동 완성 인덱스에 보관된 가게 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 모든 가게로 인덱스를 다시 구성합니다. 가게가 최대 개수보다 많으면 평점이 높은 가게만 보관합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${store.autocomplete.refresh-interval-ms:300000}",
+            initialDelayString = "${store.autocomplete.refresh-interval-ms:300000}"
+    )
+    public synchronized void rebuild() {
+        log.info("가게 자동 완성 인덱스 구성 시작");
+
+        // 평점이 가장 낮은 가게가 맨 앞에 오도록 하여 최대 개수를 넘으면 먼저 제외
+        PriorityQueue<Indexed> kept = new PriorityQueue<>((a, b) -> RANKING.compare(b.completion(), a.completion()));
+        Long lastId = 0L;
+        List<StoreCompletionView> batch;
+        do {
+            batch = storeRepository.findCompletionsAfter(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (StoreCompletionView store : batch) {
+                Indexed indexed = Indexed.of(store.getStoreId(), store.getName(), store.getRating());
+                if (indexed == null) {
+                    continue;
+                }
+
+                kept.offer(indexed);
+                if (kept.size() > maxEntries) {
+                    kept.poll();
+                }
+            }
+            lastId = batch.isEmpty() ? lastId : batch.get(batch.size() - 1).getId();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        List<Indexed> indexed = new ArrayList<>(kept);
+        tables = Tables.of(
+                KeyTable.of(indexed, Indexed::nameKey),
+                KeyTable.of(indexed.stream().filter(entry -> entry.initialsKey() != null).toList(), Indexed::initialsKey)
+        );
+        entries.clear();
+        indexed.forEach(entry -> entries.put(entry.completion().storeId(), entry));
+
+        ready = true;
+        log.info("가게 자동 완성 인덱스 구성 완료: 가게 수={}", entries.size());
+    }
+
+    /**
+     * 가게를 등록하거나 갱신합니다. 최대 개수에 도달했으면 다음 재구성 때까지 새 가게는 추가하지 않습니다.
+     */
+    public synchronized void put(Long storeId, String name, Double rating) {
+        remove(storeId);
+
+        Indexed indexed = Indexed.of(storeId, name, rating);
+        if (indexed == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            log.debug("자동 완성 인덱스가 가득 차 다음 재구성 때 반영: 가게 ID={}", storeId);
+            return;
+        }
+
+        Tables current = tables;
+        tables = Tables.of(
+                current.names().with(indexed.nameKey(), indexed.completion()),
+                indexed.initialsKey() != null
+                        ? current.initials().with(indexed.initialsKey(), indexed.completion())
+                        : current.initials()
+        );
+        entries.put(storeId, indexed);
+    }
+
+    /**
+     * 가게를 인덱스에서 제거합니다.
+     */
+    public synchronized void remove(Long storeId) {
+        Indexed previous = entries.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+
+        Tables current = tables;
+        tables = Tables.of(
+                current.names().without(previous.nameKey(), previous.completion()),
+                previous.initialsKey() != null
+                        ? current.initials().without(previous.initialsKey(), previous.completion())
+                        : current.initials()
+        );
+    }
+
+
+    /**
+     * 입력한 접두사로 시작하는 가게 이름을 평점 순으로 찾습니다.
+     *
+     * @param prefix 입력 중인 검색어 (자음만 입력하면 초성으로도 검색)
+     * @param limit  최대 결과 수 (최대 {@link #MAX_LIMIT})
+     * @return 평점 내림차순, 같으면 이름순으로 정렬된 자동 완성 결과
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        if (!ready) {
+            rebuild();
+        }
+
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Tables current = tables;
+        String key = Hangul.decompose(normalized);
+        int size = Math.min(limit, MAX_LIMIT);
+
+        // 자모 한두 개짜리 접두사는 범위가 넓으므로 결과를 인덱스가 바뀔 때까지 보관
+        // 한자 등 다른 문자는 경우의 수가 제한되지 않으므로 자모와 영문 소문자/숫자로만 된 키만 보관
+        if (key.length() <= CACHED_PREFIX_LENGTH && isMemoizable(key)) {
+            List<Completion> top = current.tops()
+                    .computeIfAbsent(normalized, ignored -> collect(current, normalized, key, MAX_LIMIT));
+            return top.subList(0, Math.min(size, top.size()));
+        }
+        return collect(current, normalized, key, size);
+    }
+
+    /**
+     * 자동 완성용으로 문자열을 정규화합니다. 음절을 조합하고 소문자로 바꾼 뒤 글자/숫자만 남깁니다.
+     */
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(Math.min(composed.length(), MAX_NAME_LENGTH));
+        for (int i = 0; i < composed.length() && builder.length() < MAX_NAME_LENGTH; i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+
+    private static boolean isMemoizable(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (!Hangul.isJamo(c) && !(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Completion> collect(Tables tables, String normalized, String key, int limit) {
+        PriorityQueue<Completion> heap = new PriorityQueue<>(RANKING.reversed());
+        tables.names().collect(key, limit, heap);
+        if (Hangul.isConsonantsOnly(normalized)) {
+            tables.initials().collect(normalized, limit, heap);
+        }
+
+        List<Completion> result = new ArrayList<>(heap);
+        result.sort(RANKING);
+        return List.copyOf(result);
+    }
+
+    /**
+     * 평점 내림차순, 같으면 이름과 가게 ID 오름차순으로 비교합니다.
+     */
+    private static int compare(Completion left, Completion right) {
+        int byRating = Double.compare(right.rating(), left.rating());
+        if (byRating != 0) {
+            return byRating;
+        }
+        int byName = left.name().compareTo(right.name());
+        return byName != 0 ? byName : Long.compare(left.storeId(), right.storeId());
+    }
+
+    private static void offer(PriorityQueue<Completion> heap, Completion completion, int limit) {
+        // 같은 가게가 이름 키와 초성 키 양쪽에서 일치할 수 있으므로 중복을 제외
+        if (heap.size() < limit) {
+            if (!heap.contains(completion)) {
+                heap.offer(completion);
+            }
+        } else if (compare(completion, heap.peek()) < 0 && !heap.contains(completion)) {
+            heap.poll();
+            heap.offer(completion);
+        }
+    }
+
+
+    public record Completion(Long storeId, String name, double rating) {
+    }
+
+    private record Indexed(Completion completion, String nameKey, String initialsKey) {
+
+        /**
+         * 가게 이름으로 자모 키와 초성 키를 만듭니다. 색인할 글자가 없으면 null을 반환합니다.
+         */
+        static Indexed of(Long storeId, String name, Double rating) {
+            String normalized = normalize(name);
+            if (normalized.isEmpty()) {
+                return null;
+            }
+
+            return new Indexed(
+                    new Completion(storeId, name, rating != null ? rating : 0.0),
+                    Hangul.decompose(normalized),
+                    Hangul.containsSyllable(normalized) ? Hangul.initials(normalized) : null
+            );
+        }
+    }
+
+    /**
+     * 이름 키와 초성 키 테이블, 그리고 이 테이블 기준으로 계산한 짧은 접두사의 결과입니다.
+     */
+    private record Tables(KeyTable names, KeyTable initials, Map<String, List<Completion>> tops) {
+
+        static Tables of(KeyTable names, KeyTable initials) {
+            return new Tables(names, initials, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 키 순으로 정렬된 (키, 결과) 배열입니다. 변경 시 새 배열을 만들어 교체하므로 조회는 잠금 없이 수행됩니다.
+     */
+    private record KeyTable(String[] keys, Completion[] targets) {
+
+        static final KeyTable EMPTY = new KeyTable(new String[0], new Completion[0]);
+
+        static KeyTable of(List<Indexed> entries, Function<Indexed, String> key) {
+            Indexed[] sorted = entries.toArray(Indexed[]::new);
+            Arrays.sort(sorted, Comparator.comparing(key));
+
+            String[] keys = new String[sorted.length];
+            Completion[] targets = new Completion[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = key.apply(sorted[i]);
+                targets[i] = sorted[i].completion();
+            }
+            return new KeyTable(keys, targets);
+        }
+
+        KeyTable with(String key, Completion target) {
+            int at = lowerBound(key);
+
+            String[] newKeys = new String[keys.length + 1];
+            Completion[] newTargets = new Completion[targets.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(targets, 0, newTargets, 0, at);
+            newKeys[at] = key;
+            newTargets[at] = target;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(targets, at, newTargets, at + 1, targets.length - at);
+            return new KeyTable(newKeys, newTargets);
+        }
+
+        KeyTable without(String key, Completion target) {
+            for (int i = lowerBound(key); i < keys.length && keys[i].equals(key); i++) {
+                if (targets[i] != target) {
+                    continue;
+                }
+
+                String[] newKeys = new String[keys.length - 1];
+                Completion[] newTargets = new Completion[targets.length - 1];
+                System.arraycopy(keys, 0, newKeys, 0, i);
+                System.arraycopy(targets, 0, newTargets, 0, i);
+                System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+                System.arraycopy(targets, i + 1, newTargets, i, targets.length - i - 1);
+                return new KeyTable(newKeys, newTargets);
+            }
+            return this;
+        }
+
+        void collect(String prefix, int limit, PriorityQueue<Completion> heap) {
+            int end = lowerBound(prefix + Character.MAX_VALUE);
+            for (int i = lowerBound(prefix); i < end; i++) {
+                offer(heap, targets[i], limit);
+            }
+        }
+
+        /**
+         * key 이상인 첫 위치를 찾습니다.
+         */
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
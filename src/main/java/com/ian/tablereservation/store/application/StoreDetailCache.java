@@ -0,0 +1,146 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.cache.BoundedCache;
+import com.ian.tablereservation.store.dto.StoreDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 가게 상세 응답을 미리 만들어 두는 읽기 캐시입니다.
+ * - 캐시 미스 시 같은 가게에 대한 동시 요청은 하나의 조회 결과를 함께 기다림 (single-flight)
+ * - 조회 도중 무효화가 일어나면 오래된 결과일 수 있으므로 응답만 돌려주고 캐시하지 않음
+ * - 가게/테이블/리뷰/좌표/평점 변경 시 커밋 이후 무효화
+ */
+@Slf4j
+@Component
+public class StoreDetailCache {
+
+    private final BoundedCache<Long, Detail> cache;
+    private final Map<Long, CompletableFuture<Detail>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Counter coalesced;
+
+    public StoreDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${store.detail-cache.max-size:10000}") int maxSize,
+            @Value("${store.detail-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.cache = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+
+        Gauge.builder("store.detail.cache.size", cache, BoundedCache::size)
+                .description("캐시된 가게 상세 응답 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("store.detail.cache.requests", cache, BoundedCache::hitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("store.detail.cache.requests", cache, BoundedCache::missCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("store.detail.cache.coalesced")
+                .description("캐시 미스 시 진행 중인 조회를 함께 기다린 요청 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 캐시된 가게 상세 응답을 반환하고, 없으면 loader로 한 번만 조회하여 캐시합니다.
+     *
+     * 다른 노드의 변경은 이 노드의 캐시를 무효화하지 못하므로, 호출자가 확인한 수정 시각(modifiedAt)보다
+     * 오래된 캐시 항목은 미스로 보고 다시 조회합니다. 그래야 새 ETag와 함께 이전 본문이 나가지 않습니다.
+     *
+     * @param storeId    가게 고유 번호
+     * @param modifiedAt 호출자가 확인한 가게의 수정 시각 (null이면 비교하지 않음)
+     * @param loader     캐시 미스 시 상세 응답을 만드는 함수
+     * @return 가게 상세 응답
+     * @throws RuntimeException loader가 던진 예외 (함께 기다린 요청에도 그대로 전달)
+     */
+    public StoreDto.StoreInfoResponse get(Long storeId, LocalDateTime modifiedAt, Supplier<Detail> loader) {
+        Detail cached = cache.get(storeId);
+        if (cached != null && !cached.isOlderThan(modifiedAt)) {
+            return cached.response();
+        }
+
+        CompletableFuture<Detail> mine = new CompletableFuture<>();
+        CompletableFuture<Detail> inFlight = loading.putIfAbsent(storeId, mine);
+        if (inFlight != null) {
+            coalesced.increment();
+            Detail shared = await(inFlight);
+            // 먼저 시작된 조회가 확인한 수정 시각 이전의 내용이면 직접 다시 조회
+            return shared.isOlderThan(modifiedAt) ? loader.get().response() : shared.response();
+        }
+
+        long version = evictions.get();
+        try {
+            Detail detail = loader.get();
+
+            if (version == evictions.get()) {
+                cache.put(storeId, detail);
+            }
+            mine.complete(detail);
+            return detail.response();
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(storeId, mine);
+        }
+    }
+
+    /**
+     * 수정 시각을 비교하지 않고 캐시된 가게 상세 응답을 반환합니다.
+     *
+     * @see #get(Long, LocalDateTime, Supplier)
+     */
+    public StoreDto.StoreInfoResponse get(Long storeId, Supplier<Detail> loader) {
+        return get(storeId, null, loader);
+    }
+
+    /**
+     * 가게 고유 번호로 상세 응답 캐시를 무효화합니다.
+     *
+     * @param storeId 가게 고유 번호
+     */
+    public void evict(Long storeId) {
+        evictions.incrementAndGet();
+        loading.remove(storeId);
+        cache.invalidate(storeId);
+        log.debug("가게 상세 캐시 무효화: 가게 ID={}", storeId);
+    }
+
+
+    private static Detail await(CompletableFuture<Detail> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+
+    /**
+     * 캐시되는 가게 상세 응답과 조회 시점의 가게 수정 시각입니다.
+     */
+    public record Detail(LocalDateTime updatedAt, StoreDto.StoreInfoResponse response) {
+
+        boolean isOlderThan(LocalDateTime modifiedAt) {
+            return modifiedAt != null && (updatedAt == null || updatedAt.isBefore(modifiedAt));
+        }
+    }
+}
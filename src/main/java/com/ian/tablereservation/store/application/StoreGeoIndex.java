@@ -0,0 +1,199 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.domain.StoreLocationView;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 좌표에 대한 인메모리 격자(grid) 공간 인덱스입니다.
+ * 위경도를 일정 크기의 셀로 나누어 관리하고, 기준 좌표의 셀에서부터 바깥쪽으로 링을 넓혀 가며
+ * 하버사인 거리 기준 최근접 가게를 찾습니다. 가게 등록/수정/삭제 시 커밋 이후 갱신됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Set<GeoPoint>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+
+    /**
+     * 좌표가 있는 모든 가게로 인덱스를 다시 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        log.info("가게 공간 인덱스 구성 시작");
+        cells.clear();
+        points.clear();
+
+        List<StoreLocationView> locations = storeRepository.findAllLocations();
+        for (StoreLocationView location : locations) {
+            put(location.getStoreId(), location.getLatitude(), location.getLongitude());
+        }
+
+        ready = true;
+        log.info("가게 공간 인덱스 구성 완료: 가게 수={}, 셀 수={}", points.size(), cells.size());
+    }
+
+    /**
+     * 가게 좌표를 등록하거나 갱신합니다. 좌표가 없으면 인덱스에서 제거합니다.
+     */
+    public void put(Long storeId, Double latitude, Double longitude) {
+        remove(storeId);
+
+        if (latitude == null || longitude == null) {
+            return;
+        }
+
+        GeoPoint point = new GeoPoint(storeId, latitude, longitude);
+        points.put(storeId, point);
+        cells.computeIfAbsent(cellKey(cellOf(latitude), cellOf(longitude)), key -> ConcurrentHashMap.newKeySet())
+                .add(point);
+    }
+
+    /**
+     * 가게를 인덱스에서 제거합니다.
+     */
+    public void remove(Long storeId) {
+        GeoPoint previous = points.remove(storeId);
+
+        if (previous != null) {
+            cells.computeIfPresent(cellKey(cellOf(previous.latitude()), cellOf(previous.longitude())), (key, cell) -> {
+                cell.remove(previous);
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+    }
+
+    public boolean isEmpty() {
+        return points.isEmpty();
+    }
+
+
+    /**
+     * 기준 좌표에서 가까운 가게를 최대 limit개 찾습니다.
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param limit     최대 결과 수
+     * @param radiusKm  검색 반경 (km, null이면 제한 없음)
+     * @return 가까운 순서로 정렬된 가게 ID와 거리(km)
+     */
+    public List<Nearby> nearest(double latitude, double longitude, int limit, Double radiusKm) {
+        if (!ready) {
+            rebuild();
+        }
+
+        double maxDistance = radiusKm != null ? radiusKm : Double.MAX_VALUE;
+        PriorityQueue<Nearby> heap = new PriorityQueue<>(Comparator.comparingDouble(Nearby::distanceKm).reversed());
+
+        int centerLat = cellOf(latitude);
+        int centerLng = cellOf(longitude);
+        int total = points.size();
+
+        for (int ring = 0; ; ring++) {
+            // 방문할 셀 수가 가게 수보다 많아지면 남은 가게를 직접 훑는 편이 더 저렴
+            long side = 2L * ring + 1;
+            if (side * side > total) {
+                heap.clear();
+                points.values().forEach(point -> offer(heap, point, latitude, longitude, limit, maxDistance));
+                break;
+            }
+
+            for (int i = centerLat - ring; i <= centerLat + ring; i++) {
+                for (int j = centerLng - ring; j <= centerLng + ring; j++) {
+                    if (Math.max(Math.abs(i - centerLat), Math.abs(j - centerLng)) != ring) {
+                        continue;
+                    }
+
+                    Set<GeoPoint> cell = cells.get(cellKey(i, j));
+                    if (cell != null) {
+                        cell.forEach(point -> offer(heap, point, latitude, longitude, limit, maxDistance));
+                    }
+                }
+            }
+
+            // 다음 링에 있는 가게까지의 최소 거리가 현재 결과보다 멀면 탐색 종료
+            double lowerBound = ring * cellWidthKm(latitude, ring + 1);
+            if (lowerBound > maxDistance || (heap.size() == limit && lowerBound >= heap.peek().distanceKm())) {
+                break;
+            }
+        }
+
+        List<Nearby> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Nearby::distanceKm));
+        return result;
+    }
+
+    /**
+     * 두 좌표 간 하버사인 거리(km)를 계산합니다.
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+
+    private static void offer(
+            PriorityQueue<Nearby> heap, GeoPoint point, double latitude, double longitude, int limit, double maxDistance
+    ) {
+        double distance = haversine(latitude, longitude, point.latitude(), point.longitude());
+        if (distance > maxDistance) {
+            return;
+        }
+
+        if (heap.size() < limit) {
+            heap.offer(new Nearby(point.storeId(), distance));
+        } else if (distance < heap.peek().distanceKm()) {
+            heap.poll();
+            heap.offer(new Nearby(point.storeId(), distance));
+        }
+    }
+
+    /**
+     * 링 범위 안에서 가장 좁은 셀의 동서 폭(km)을 계산합니다. 고위도로 갈수록 폭이 좁아집니다.
+     */
+    private static double cellWidthKm(double latitude, int rings) {
+        double farthestLatitude = Math.min(89.9, Math.abs(latitude) + rings * CELL_DEGREES);
+        return CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+
+    public record Nearby(Long storeId, double distanceKm) {
+    }
+
+    private record GeoPoint(Long storeId, double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,314 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.common.support.CallNotPermittedException;
+import com.ian.tablereservation.store.domain.GeocodingStatus;
+import com.ian.tablereservation.store.domain.StoreAddressView;
+import com.ian.tablereservation.store.domain.StoreLocationView;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 주소를 비동기로 좌표로 변환하여 채워 넣는 작업자입니다.
+ * 등록/수정 트랜잭션은 좌표 없이(PENDING) 커밋되고, 커밋 이후 이곳에 주소가 등록됩니다.
+ * 짧은 배치 구간 동안 모인 요청은 정규화한 주소 단위로 묶어 한 번만 변환하며,
+ * 가상 스레드에서 동시 실행 수를 제한해 처리하고, 일시적인 실패는 지수 백오프로 재시도합니다.
+ * 서킷 브레이커나 동시 호출 한도로 호출하지 못한 경우는 시도 횟수에 넣지 않고 미루기만 하며,
+ * 재시도 한도를 넘겨 실패 처리된 가게는 주기적으로 다시 대기열에 넣습니다.
+ */
+@Slf4j
+@Component
+public class StoreGeocodingWorker {
+
+    private static final int RECOVERY_BATCH_SIZE = 500;
+    private static final long MAX_BACKOFF_MS = 5 * 60 * 1000;
+    private static final String LEASE_NAME = "store-geocoding-retry";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+
+    private final GeocodingService geocodingService;
+    private final StoreRepository storeRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreDetailCache storeDetailCache;
+    private final SchedulerLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long batchWindowMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long failedRetryIntervalMs;
+
+    private final Map<String, AddressGroup> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Semaphore permits;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("store-geocoding-scheduler").daemon().factory()
+    );
+
+    public StoreGeocodingWorker(
+            GeocodingService geocodingService,
+            StoreRepository storeRepository,
+            StoreGeoIndex storeGeoIndex,
+            StoreDetailCache storeDetailCache,
+            SchedulerLeaseManager leaseManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${geocoding.worker.concurrency:4}") int concurrency,
+            @Value("${geocoding.worker.batch-window-ms:200}") long batchWindowMs,
+            @Value("${geocoding.worker.max-attempts:5}") int maxAttempts,
+            @Value("${geocoding.worker.retry-backoff-ms:2000}") long retryBackoffMs,
+            @Value("${geocoding.worker.failed-retry-interval-ms:3600000}") long failedRetryIntervalMs
+    ) {
+        this.geocodingService = geocodingService;
+        this.storeRepository = storeRepository;
+        this.storeGeoIndex = storeGeoIndex;
+        this.storeDetailCache = storeDetailCache;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.permits = new Semaphore(concurrency);
+        this.batchWindowMs = batchWindowMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.failedRetryIntervalMs = failedRetryIntervalMs;
+    }
+
+
+    /**
+     * 좌표 변환이 필요한 가게를 등록합니다. 같은 주소의 요청은 하나로 합쳐집니다.
+     */
+    public void enqueue(Long storeId, String address) {
+        enqueue(address, Map.of(storeId, address), 1, 0);
+    }
+
+    /**
+     * 재시작 등으로 처리되지 못한 PENDING 상태의 가게를 다시 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        long lastId = 0;
+        int recovered = 0;
+
+        while (true) {
+            List<StoreAddressView> stores = storeRepository.findAddressesByGeocodingStatus(
+                    GeocodingStatus.PENDING, lastId, Limit.of(RECOVERY_BATCH_SIZE));
+            if (stores.isEmpty()) {
+                break;
+            }
+
+            stores.forEach(store -> enqueue(store.getStoreId(), store.getAddress()));
+            recovered += stores.size();
+            lastId = stores.get(stores.size() - 1).getId();
+        }
+
+        if (recovered > 0) {
+            log.info("좌표 변환 대기 가게 복구: {}건", recovered);
+        }
+    }
+
+    /**
+     * 실패 처리된 지 재시도 간격 이상 지난 가게를 다시 대기 상태로 돌려 등록합니다.
+     * 외부 서비스 장애가 길어져 재시도 한도를 넘긴 가게도 장애가 끝나면 좌표를 얻을 수 있도록 합니다.
+     *
+     * @return 다시 등록한 가게 수
+     */
+    @Scheduled(
+            fixedDelayString = "${geocoding.worker.failed-retry-interval-ms:3600000}",
+            initialDelayString = "${geocoding.worker.failed-retry-interval-ms:3600000}"
+    )
+    public int retryFailed() {
+        if (!leaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            log.debug("좌표 변환 실패 가게 재등록 건너뜀 - 다른 인스턴스가 임대 보유");
+            return 0;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(failedRetryIntervalMs));
+        long lastId = 0;
+        int requeued = 0;
+
+        while (true) {
+            List<StoreAddressView> stores = storeRepository.findGeocodingFailedBefore(
+                    before, lastId, Limit.of(RECOVERY_BATCH_SIZE));
+            if (stores.isEmpty()) {
+                break;
+            }
+
+            List<Long> storeIds = stores.stream().map(StoreAddressView::getStoreId).toList();
+            transactionTemplate.executeWithoutResult(status ->
+                    storeRepository.requeueGeocodingFailed(storeIds, LocalDateTime.now()));
+            storeIds.forEach(storeDetailCache::evict);
+            stores.forEach(store -> enqueue(store.getStoreId(), store.getAddress()));
+
+            requeued += stores.size();
+            lastId = stores.get(stores.size() - 1).getId();
+        }
+
+        if (requeued > 0) {
+            log.info("좌표 변환 실패 가게 재등록: {}건", requeued);
+        }
+        return requeued;
+    }
+
+    public int pendingAddressCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+
+    private void enqueue(String address, Map<Long, String> stores, int attempt, int deferrals) {
+        pending.compute(GeocodingService.normalize(address), (key, group) -> {
+            AddressGroup target = group != null
+                    ? group
+                    : new AddressGroup(address, new ConcurrentHashMap<>(), attempt, deferrals);
+            target.stores().putAll(stores);
+            return target;
+        });
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, batchWindowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 배치 구간 동안 모인 주소 묶음을 작업자에게 넘깁니다.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+
+        for (String key : pending.keySet()) {
+            AddressGroup group = pending.remove(key);
+            if (group == null) {
+                continue;
+            }
+
+            workers.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                try {
+                    resolve(group);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    private void resolve(AddressGroup group) {
+        Map<Long, String> stores = Map.copyOf(group.stores());
+
+        try {
+            Optional<KakaoGeocodingApiService.LatLng> coordinates = geocodingService.findCoordinates(group.address());
+
+            if (coordinates.isEmpty()) {
+                log.warn("좌표 변환 실패 - 결과 없음: 주소={}, 가게 수={}", group.address(), stores.size());
+                markFailed(stores);
+                return;
+            }
+
+            KakaoGeocodingApiService.LatLng latLng = coordinates.get();
+            List<StoreLocationView> resolved = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                byAddress(stores).forEach((address, storeIds) -> storeRepository.resolveCoordinates(
+                        storeIds, address, latLng.getLat(), latLng.getLng(), now));
+                return storeRepository.findLocationsByStoreIdIn(stores.keySet());
+            });
+
+            resolved.forEach(location ->
+                    storeGeoIndex.put(location.getStoreId(), location.getLatitude(), location.getLongitude()));
+            stores.keySet().forEach(storeDetailCache::evict);
+            log.debug("좌표 변환 완료: 주소={}, 가게 수={}", group.address(), resolved.size());
+        } catch (CallNotPermittedException e) {
+            defer(group, stores);
+        } catch (RuntimeException e) {
+            retryOrFail(group, stores, e);
+        }
+    }
+
+    /**
+     * 서킷 브레이커나 동시 호출 한도로 외부 API를 호출하지 못한 묶음을 미룹니다.
+     * 요청이 나가지 않았으므로 시도 횟수는 그대로 두고, 미룬 횟수만큼 간격만 늘립니다.
+     */
+    private void defer(AddressGroup group, Map<Long, String> stores) {
+        long delay = backoff(group.attempt() - 1 + group.deferrals());
+        log.debug("좌표 변환 보류 - 위치 서비스 호출 차단, {}ms 후 재등록: 주소={}", delay, group.address());
+
+        scheduler.schedule(() -> enqueue(group.address(), stores, group.attempt(), group.deferrals() + 1),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void retryOrFail(AddressGroup group, Map<Long, String> stores, RuntimeException cause) {
+        if (group.attempt() >= maxAttempts) {
+            log.error("좌표 변환 재시도 한도 초과: 주소={}, 가게 수={}", group.address(), stores.size(), cause);
+            try {
+                markFailed(stores);
+            } catch (RuntimeException e) {
+                log.error("좌표 변환 실패 상태 저장 실패: 주소={}", group.address(), e);
+            }
+            return;
+        }
+
+        long delay = backoff(group.attempt() - 1 + group.deferrals());
+        log.warn("좌표 변환 일시 실패, {}ms 후 재시도({}/{}): {}",
+                delay, group.attempt(), maxAttempts, cause.getMessage());
+
+        scheduler.schedule(() -> enqueue(group.address(), stores, group.attempt() + 1, group.deferrals()),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    private long backoff(int exponent) {
+        return Math.min(retryBackoffMs << Math.min(exponent, 20), MAX_BACKOFF_MS);
+    }
+
+    private void markFailed(Map<Long, String> stores) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            byAddress(stores).forEach((address, storeIds) ->
+                    storeRepository.markGeocodingFailed(storeIds, address, now));
+        });
+        stores.keySet().forEach(storeDetailCache::evict);
+    }
+
+    /**
+     * 정규화 전 원본 주소별로 가게를 묶습니다. 갱신 조건에 원본 주소를 사용하기 위함입니다.
+     */
+    private static Map<String, Set<Long>> byAddress(Map<Long, String> stores) {
+        return stores.entrySet().stream().collect(Collectors.groupingBy(
+                Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toSet())));
+    }
+
+
+    private record AddressGroup(String address, Map<Long, String> stores, int attempt, int deferrals) {
+    }
+}
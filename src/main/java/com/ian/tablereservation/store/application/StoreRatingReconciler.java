@@ -0,0 +1,157 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.review.domain.ReviewRepository;
+import com.ian.tablereservation.review.domain.StoreRatingAggregate;
+import com.ian.tablereservation.store.domain.StoreRatingView;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가게의 별점 합계/리뷰 수/별점별 리뷰 수 카운터를 리뷰 테이블과 주기적으로 대조하여 어긋난 값을 바로잡습니다.
+ * 가게를 ID 순서로 묶음 단위로 훑으며, 차이가 있는 가게만 다시 집계합니다.
+ */
+@Slf4j
+@Component
+public class StoreRatingReconciler {
+
+    private static final String LEASE_NAME = "store-rating-reconcile";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 500;
+
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+    private final SchedulerLeaseManager leaseManager;
+    private final StoreDetailCache storeDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repairedCounter;
+
+    public StoreRatingReconciler(
+            StoreRepository storeRepository,
+            ReviewRepository reviewRepository,
+            SchedulerLeaseManager leaseManager,
+            StoreDetailCache storeDetailCache,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.storeRepository = storeRepository;
+        this.reviewRepository = reviewRepository;
+        this.leaseManager = leaseManager;
+        this.storeDetailCache = storeDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repairedCounter = Counter.builder("store.rating.reconcile.repaired")
+                .description("보정된 가게 평점 카운터 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 기동 시 평점 관련 값을 한 번 바로잡습니다.
+     * 카운터 컬럼은 스키마 갱신으로 추가될 때 리뷰가 있는 가게에도 0으로 채워지므로, 새벽 보정을 기다리지 않고 바로 보정합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        fillMissingRatings();
+        reconcile();
+    }
+
+    /**
+     * 평점이 NULL인 가게를 채웁니다.
+     * 별점순 키셋 조건은 NULL 평점과 일치하지 않으므로, 채우지 않으면 리뷰 없는 옛 가게가 목록에서 빠집니다.
+     * 조건부 UPDATE 한 번이라 여러 인스턴스가 함께 실행해도 결과가 같습니다.
+     *
+     * @return 채운 가게 수
+     */
+    public int fillMissingRatings() {
+        Integer filled = transactionTemplate.execute(status -> storeRepository.fillMissingRatings());
+        if (filled != null && filled > 0) {
+            log.info("평점이 비어 있던 가게 채움: {}건", filled);
+        }
+        return filled != null ? filled : 0;
+    }
+
+    /**
+     * 매일 새벽 가게 평점 카운터를 보정합니다.
+     *
+     * @return 보정된 가게 수
+     */
+    @Scheduled(cron = "${store.rating.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        if (!leaseManager.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            log.debug("평점 보정 건너뜀 - 다른 인스턴스가 임대 보유");
+            return 0;
+        }
+
+        log.info("가게 평점 보정 시작");
+        long lastId = 0;
+        int repaired = 0;
+
+        while (true) {
+            List<StoreRatingView> stores = storeRepository.findRatingCountersAfter(lastId, Limit.of(BATCH_SIZE));
+            if (stores.isEmpty()) {
+                break;
+            }
+
+            repaired += repairDrifted(stores);
+            lastId = stores.get(stores.size() - 1).getId();
+        }
+
+        repairedCounter.increment(repaired);
+        log.info("가게 평점 보정 완료: 보정된 가게 수={}", repaired);
+        return repaired;
+    }
+
+    private int repairDrifted(List<StoreRatingView> stores) {
+        Map<Long, StoreRatingAggregate> aggregates = reviewRepository
+                .aggregateRatingsByStoreIds(stores.stream().map(StoreRatingView::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(StoreRatingAggregate::getStoreId, Function.identity()));
+
+        List<StoreRatingView> drifted = stores.stream()
+                .filter(store -> isDrifted(store, aggregates.get(store.getId())))
+                .toList();
+
+        // 집계와 보정 사이에 작성된 리뷰가 있어도, 보정은 리뷰 테이블을 다시 읽어 행 잠금 아래에서 계산됨
+        for (StoreRatingView store : drifted) {
+            transactionTemplate.executeWithoutResult(status -> {
+                storeRepository.recalculateRatingCounters(store.getId(), LocalDateTime.now());
+                storeRepository.refreshRating(store.getId());
+            });
+            storeDetailCache.evict(store.getStoreId());
+            log.warn("가게 평점 카운터 보정: storeId={}", store.getStoreId());
+        }
+        return drifted.size();
+    }
+
+    private static boolean isDrifted(StoreRatingView store, StoreRatingAggregate aggregate) {
+        if (aggregate == null) {
+            return store.getRatingSum() != 0 || store.getRatingCount() != 0
+                    || store.getRating1Count() != 0 || store.getRating2Count() != 0 || store.getRating3Count() != 0
+                    || store.getRating4Count() != 0 || store.getRating5Count() != 0;
+        }
+        return !Objects.equals(store.getRatingSum(), aggregate.getRatingSum())
+                || !Objects.equals(store.getRatingCount(), aggregate.getRatingCount())
+                || !Objects.equals(store.getRating1Count(), aggregate.getRating1Count())
+                || !Objects.equals(store.getRating2Count(), aggregate.getRating2Count())
+                || !Objects.equals(store.getRating3Count(), aggregate.getRating3Count())
+                || !Objects.equals(store.getRating4Count(), aggregate.getRating4Count())
+                || !Objects.equals(store.getRating5Count(), aggregate.getRating5Count());
+    }
+}
@@ -0,0 +1,468 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.domain.StoreRepository;
+import com.ian.tablereservation.store.domain.StoreSearchView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 이름/주소/소개에 대한 인메모리 역색인(inverted index)입니다.
+ * - 공백으로 나눈 단어마다 2글자 n-gram(bigram)을 토큰으로 사용하므로 형태소 분석 없이도 한글 부분 일치 검색이 가능
+ * - 한 글자 검색을 위해 이름은 글자 단위 토큰도 함께 색인
+ * - 토큰별 게시 목록(posting)은 문서 순번과 필드 비트를 합친 정렬된 int 배열이며, 변경 시 배열을 새로 만들어 교체하므로 조회는 잠금 없이 수행
+ * - 검색어의 모든 토큰을 포함한 가게만 후보로 삼고, 토큰 희소도(IDF)와 필드 가중치(이름 > 주소 > 소개) 합으로 정렬
+ * 가게 등록/수정/삭제 시 커밋 이후 갱신되고, 다른 인스턴스의 변경은 주기적인 대조로 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_DESCRIPTION_LENGTH = 100;
+
+    private static final int NAME = 1;
+    private static final int ADDRESS = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    private static final int MAX_ORDINAL = Integer.MAX_VALUE >>> FIELD_BITS;
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double ADDRESS_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.5;
+    private static final double NAME_PHRASE_BONUS = 1.0;
+    private static final double NAME_PREFIX_BONUS = 0.5;
+
+    private static final double[] WEIGHTS = new double[1 << FIELD_BITS];
+
+    static {
+        for (int fields = 0; fields < WEIGHTS.length; fields++) {
+            WEIGHTS[fields] = ((fields & NAME) != 0 ? NAME_WEIGHT : 0)
+                    + ((fields & ADDRESS) != 0 ? ADDRESS_WEIGHT : 0)
+                    + ((fields & DESCRIPTION) != 0 ? DESCRIPTION_WEIGHT : 0);
+        }
+    }
+
+    private static final Comparator<Hit> RANKING = StoreSearchIndex::compare;
+
+    private final StoreRepository storeRepository;
+
+    private final Map<String, int[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> ordinals = new ConcurrentHashMap<>();
+    private volatile Document[] documents = new Document[1024];
+    private volatile int size = 0;
+    private int nextOrdinal = 0;
+    private volatile boolean ready = false;
+
+
+    /**
+     * 아직 구성되지 않았으면 모든 가게로 인덱스를 구성합니다.
+     * 기동 이벤트와 구성 전에 들어온 첫 검색이 겹쳐도 잠금 안에서 다시 확인하므로, 이미 구성된 인덱스를 비우지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 모든 가게로 인덱스를 다시 구성합니다.
+     */
+    public synchronized void rebuild() {
+        log.info("가게 검색 인덱스 구성 시작");
+        clear();
+
+        Long lastId = 0L;
+        List<StoreSearchView> batch;
+        do {
+            batch = storeRepository.findSearchDocumentsAfter(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (StoreSearchView store : batch) {
+                put(store.getStoreId(), store.getName(), store.getAddress(), store.getDescription());
+            }
+            lastId = batch.isEmpty() ? lastId : batch.get(batch.size() - 1).getId();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        ready = true;
+        log.info("가게 검색 인덱스 구성 완료: 가게 수={}, 토큰 수={}", size, postings.size());
+    }
+
+    /**
+     * DB의 가게와 인덱스를 대조하여 달라진 가게만 갱신하고, DB에 없는 가게는 제거합니다.
+     * 문서 단위로 교체하므로 전체 재구성과 달리 대조 중에도 검색 결과가 비지 않습니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${store.search.refresh-interval-ms:300000}",
+            initialDelayString = "${store.search.refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        if (!ready) {
+            initialize();
+            return;
+        }
+
+        // 대조 시작 시점에 있던 가게만 삭제 대상으로 삼아, 대조 중 새로 등록된 가게는 지우지 않음
+        Set<Long> missing = new HashSet<>(ordinals.keySet());
+        int updated = 0;
+
+        Long lastId = 0L;
+        List<StoreSearchView> batch;
+        do {
+            batch = storeRepository.findSearchDocumentsAfter(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            updated += reconcile(batch, missing);
+            lastId = batch.isEmpty() ? lastId : batch.get(batch.size() - 1).getId();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        synchronized (this) {
+            missing.forEach(this::remove);
+        }
+
+        if (updated > 0 || !missing.isEmpty()) {
+            log.info("가게 검색 인덱스 대조 완료: 갱신={}, 제거={}", updated, missing.size());
+        }
+    }
+
+    /**
+     * 가게를 등록하거나 갱신합니다.
+     */
+    public synchronized void put(Long storeId, String name, String address, String description) {
+        put(document(storeId, name, address, description));
+    }
+
+    /**
+     * 가게를 인덱스에서 제거합니다.
+     */
+    public synchronized void remove(Long storeId) {
+        Integer ordinal = ordinals.remove(storeId);
+        if (ordinal == null) {
+            return;
+        }
+
+        Document document = documents[ordinal];
+        documents[ordinal] = null;
+        size--;
+        for (String token : tokens(document).keySet()) {
+            postings.computeIfPresent(token, (key, posting) -> without(posting, ordinal));
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+
+    /**
+     * 검색어와 일치하는 가게를 관련도 순으로 찾습니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @param after 이전 페이지의 마지막 결과 (첫 페이지는 null)
+     * @return 관련도 내림차순, 같으면 가게 ID 오름차순으로 정렬된 결과
+     */
+    public List<Hit> search(String query, int limit, Hit after) {
+        if (!ready) {
+            initialize();
+        }
+
+        String normalized = normalize(query);
+        Set<String> tokens = queryTokens(normalized);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] lists = new int[tokens.size()][];
+        int index = 0;
+        for (String token : tokens) {
+            int[] posting = postings.get(token);
+            if (posting == null) {
+                return List.of();
+            }
+            lists[index++] = posting;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(posting -> posting.length));
+
+        Document[] snapshot = documents;
+        double total = size;
+        double[] idf = new double[lists.length];
+        double idfSum = 0;
+        for (int i = 0; i < lists.length; i++) {
+            double df = lists[i].length;
+            idf[i] = Math.log(1 + Math.max(0, total - df + 0.5) / (df + 0.5));
+            idfSum += idf[i];
+        }
+
+        String phrase = normalized.replace(" ", "");
+        PriorityQueue<Hit> heap = new PriorityQueue<>(RANKING.reversed());
+        int[] cursors = new int[lists.length];
+
+        // 가장 짧은 게시 목록을 기준으로 나머지 목록에서 같은 문서를 찾아가며 교집합을 구함
+        candidates:
+        for (int entry : lists[0]) {
+            int ordinal = entry >>> FIELD_BITS;
+            int nameMatches = entry & NAME;
+            double score = idf[0] * WEIGHTS[entry & FIELD_MASK];
+
+            for (int i = 1; i < lists.length; i++) {
+                int found = seek(lists[i], cursors[i], ordinal);
+                cursors[i] = found < 0 ? -found - 1 : found;
+                if (found < 0) {
+                    continue candidates;
+                }
+                int other = lists[i][found];
+                nameMatches &= other;
+                score += idf[i] * WEIGHTS[other & FIELD_MASK];
+            }
+
+            Document document = ordinal < snapshot.length ? snapshot[ordinal] : null;
+            if (document == null) {
+                continue;
+            }
+
+            // 이름에 검색어가 그대로 포함되면 흩어진 n-gram 일치보다 앞에 오도록 가산 (모든 토큰이 이름에 있어야 가능)
+            if (nameMatches != 0 && document.compactName().contains(phrase)) {
+                score += idfSum * (document.compactName().startsWith(phrase)
+                        ? NAME_PHRASE_BONUS + NAME_PREFIX_BONUS
+                        : NAME_PHRASE_BONUS);
+            }
+
+            offer(heap, document.storeId(), score, limit, after);
+        }
+
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(RANKING);
+        return result;
+    }
+
+    /**
+     * 검색용으로 문자열을 정규화합니다. 호환 문자를 통합하고 소문자로 바꾼 뒤 글자/숫자 외 문자는 공백 하나로 치환합니다.
+     */
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(folded.length());
+        boolean space = true;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+                space = false;
+            } else if (!space) {
+                builder.append(' ');
+                space = true;
+            }
+        }
+
+        int length = builder.length();
+        return space && length > 0 ? builder.substring(0, length - 1) : builder.toString();
+    }
+
+
+    private void put(Document document) {
+        remove(document.storeId());
+
+        if (nextOrdinal > MAX_ORDINAL) {
+            compact();
+        }
+        index(nextOrdinal++, document);
+    }
+
+    private synchronized int reconcile(List<StoreSearchView> batch, Set<Long> missing) {
+        int updated = 0;
+        for (StoreSearchView store : batch) {
+            missing.remove(store.getStoreId());
+
+            Document document = document(store.getStoreId(), store.getName(), store.getAddress(), store.getDescription());
+            Integer ordinal = ordinals.get(store.getStoreId());
+            if (ordinal == null || !document.equals(documents[ordinal])) {
+                put(document);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private static Document document(Long storeId, String name, String address, String description) {
+        String normalizedName = normalize(name);
+        String normalizedDescription = normalize(description);
+        return new Document(
+                storeId,
+                normalizedName,
+                normalizedName.replace(" ", ""),
+                normalize(address),
+                normalizedDescription.substring(0, Math.min(normalizedDescription.length(), MAX_DESCRIPTION_LENGTH))
+        );
+    }
+
+    private void index(int ordinal, Document document) {
+        if (ordinal >= documents.length) {
+            documents = Arrays.copyOf(documents, Math.max(documents.length * 2, ordinal + 1));
+        }
+        documents[ordinal] = document;
+        ordinals.put(document.storeId(), ordinal);
+        size++;
+
+        // 순번은 단조 증가하므로 새 항목은 항상 게시 목록의 끝에 추가됨
+        tokens(document).forEach((token, fields) -> {
+            int entry = ordinal << FIELD_BITS | fields;
+            postings.merge(token, new int[]{entry}, (posting, single) -> {
+                int[] appended = Arrays.copyOf(posting, posting.length + 1);
+                appended[posting.length] = entry;
+                return appended;
+            });
+        });
+    }
+
+    private void clear() {
+        postings.clear();
+        ordinals.clear();
+        documents = new Document[Math.max(1024, size)];
+        size = 0;
+        nextOrdinal = 0;
+    }
+
+    /**
+     * 갱신이 누적되어 순번이 고갈되면 살아 있는 문서만으로 순번을 다시 매깁니다.
+     */
+    private void compact() {
+        List<Document> live = Arrays.stream(documents).filter(Objects::nonNull).toList();
+        clear();
+        live.forEach(document -> index(nextOrdinal++, document));
+        log.info("가게 검색 인덱스 순번 재할당: 가게 수={}", live.size());
+    }
+
+    private static Map<String, Integer> tokens(Document document) {
+        Map<String, Integer> tokens = new HashMap<>();
+        addTokens(tokens, document.name(), NAME, true);
+        addTokens(tokens, document.address(), ADDRESS, false);
+        addTokens(tokens, document.description(), DESCRIPTION, false);
+        return tokens;
+    }
+
+    private static void addTokens(Map<String, Integer> tokens, String text, int field, boolean unigrams) {
+        for (String word : text.split(" ")) {
+            if (word.length() == 1 || (unigrams && !word.isEmpty())) {
+                for (int i = 0; i < word.length(); i++) {
+                    tokens.merge(String.valueOf(word.charAt(i)), field, (a, b) -> a | b);
+                }
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.merge(word.substring(i, i + 2), field, (a, b) -> a | b);
+            }
+        }
+    }
+
+    private static Set<String> queryTokens(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static int[] without(int[] posting, int ordinal) {
+        int found = seek(posting, 0, ordinal);
+        if (found < 0) {
+            return posting;
+        }
+        if (posting.length == 1) {
+            return null;
+        }
+
+        int[] removed = new int[posting.length - 1];
+        System.arraycopy(posting, 0, removed, 0, found);
+        System.arraycopy(posting, found + 1, removed, found, posting.length - found - 1);
+        return removed;
+    }
+
+    /**
+     * 게시 목록의 from 위치부터 문서 순번의 위치를 찾습니다. 없으면 (-(삽입 위치) - 1)을 반환합니다.
+     * 교집합을 구할 때 위치가 앞으로만 이동하므로, 간격을 두 배씩 넓혀 범위를 좁힌 뒤 이진 탐색합니다.
+     */
+    private static int seek(int[] posting, int from, int ordinal) {
+        int low = from;
+        int step = 1;
+        while (low + step < posting.length && posting[low + step] >>> FIELD_BITS < ordinal) {
+            low += step;
+            step <<= 1;
+        }
+
+        int high = Math.min(low + step, posting.length - 1);
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = posting[mid] >>> FIELD_BITS;
+            if (value < ordinal) {
+                low = mid + 1;
+            } else if (value > ordinal) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static void offer(PriorityQueue<Hit> heap, Long storeId, double score, int limit, Hit after) {
+        if (after != null && compare(score, storeId, after) <= 0) {
+            return;
+        }
+
+        // 힙이 가득 찼으면 가장 낮은 결과보다 앞서는 경우에만 객체를 만들어 교체
+        if (heap.size() < limit) {
+            heap.offer(new Hit(storeId, score));
+        } else if (compare(score, storeId, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(new Hit(storeId, score));
+        }
+    }
+
+    private static int compare(Hit left, Hit right) {
+        return compare(left.score(), left.storeId(), right);
+    }
+
+    /**
+     * 관련도 내림차순, 같으면 가게 ID 오름차순으로 비교합니다.
+     */
+    private static int compare(double score, long storeId, Hit other) {
+        int byScore = Double.compare(other.score(), score);
+        return byScore != 0 ? byScore : Long.compare(storeId, other.storeId());
+    }
+
+
+    public record Hit(Long storeId, double score) {
+    }
+
+    /**
+     * 색인된 가게입니다. 정규화된 필드 값을 보관하여 제거 시 같은 토큰을 다시 계산합니다.
+     */
+    private record Document(Long storeId, String name, String compactName, String address, String description) {
+    }
+}
@@ -1,122 +1,289 @@
 package com.ian.tablereservation.store.application;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.tablereservation.common.dto.CursorPageResponse;
+import com.ian.tablereservation.common.id.IdGenerator;
 import com.ian.tablereservation.common.security.CustomUserDetails;
+import com.ian.tablereservation.common.support.CursorCodec;
+import com.ian.tablereservation.common.support.Transactions;
+import com.ian.tablereservation.reservation.application.AvailabilityService;
 import com.ian.tablereservation.store.dto.StoreDto;
 import com.ian.tablereservation.store.domain.Store;
 import com.ian.tablereservation.store.domain.StoreRepository;
 import com.ian.tablereservation.store.table.dto.StoreTableDto;
+import com.ian.tablereservation.user.domain.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StoreService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final StoreRepository storeRepository;
-    private final KakaoGeocodingApiService kakaoGeocodingApiService;
+    private final GeocodingService geocodingService;
+    private final AvailabilityService availabilityService;
+    private final ObjectMapper objectMapper;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreGeocodingWorker storeGeocodingWorker;
+    private final UserRepository userRepository;
+    private final IdGenerator idGenerator;
+    private final EntityManager entityManager;
 
 
     /**
-     * 정렬 기준과 주소를 바탕으로 가게 목록을 조회합니다.
+     * 정렬 기준과 주소를 바탕으로 가게 목록을 한 페이지씩 조회합니다.
+     * 가나다순과 별점순은 (정렬 값, ID) 복합 인덱스를 이용한 키셋 페이지네이션을 사용합니다.
      *
      * @param sort    정렬 기준 (alphabet (default), distance, rating)
      * @param address 거리 정렬 시 기준이 되는 주소 (선택)
-     * @return 정렬된 가게 응답 리스트
+     * @param radius  거리 정렬 시 검색 반경 km (선택)
+     * @param cursor  이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 정렬된 가게 응답 페이지
      * @throws RuntimeException 가게가 없거나 주소 정보가 잘못된 경우
      */
-    public List<StoreDto.StoreResponse> getSortStores(String sort, String address) {
+    public CursorPageResponse<StoreDto.StoreResponse> getSortStores(
+            String sort, String address, Double radius, String cursor, int size
+    ) {
         log.info("가게 목록 조회 요청 처리 시작");
-        log.debug("요청 정렬 기준: {}", sort);
+        log.debug("요청 정렬 기준: {}, 커서: {}, 크기: {}", sort, cursor, size);
 
-        List<Store> stores = switch (sort) {
-            case "rating" -> {
-                log.debug("정렬 방식: 별점순");
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-                yield storeRepository.findAllByOrderByRatingDesc()
-                        .orElseThrow(() -> {
-                            log.error("별점순 정렬 실패 - 등록된 가게 없음");
-                            return new RuntimeException("등록된 가게가 없습니다.");
-                        });
-            }
+        if ("distance".equals(sort)) {
+            return getStoresByDistance(address, radius, pageSize);
+        }
 
-            case "distance" -> {
-                log.debug("정렬 방식: 거리순");
+        List<Store> stores = findStorePage(sort, cursor, pageSize + 1);
 
-                if (!StringUtils.hasText(address)) {
-                    log.error("거리순 정렬 실패 - 주소값 없음");
-                    throw new IllegalArgumentException("위치 정보를 불러올 수 없습니다.");
-                }
+        if (stores.isEmpty() && cursor == null) {
+            log.error("가게 목록 조회 실패 - 등록된 가게 없음");
+            throw new RuntimeException("등록된 가게가 없습니다.");
+        }
 
-                KakaoGeocodingApiService.LatLng coordinates =
-                        kakaoGeocodingApiService.getCoordinates(address);
-                Double lat = coordinates.getLat();
-                Double lng = coordinates.getLng();
-                log.debug("주소 변환 좌표: lat={}, lng={}", lat, lng);
+        boolean hasNext = stores.size() > pageSize;
+        List<Store> page = hasNext ? stores.subList(0, pageSize) : stores;
+        String nextCursor = hasNext ? cursorOf(sort, page.get(page.size() - 1)) : null;
+
+        log.info("가게 목록 조회 요청 처리 성공");
+        return CursorPageResponse.of(page.stream().map(StoreDto.StoreResponse::from).toList(), nextCursor);
+    }
 
-                List<Store> storeList = storeRepository.findAll();
 
-                if (storeList.isEmpty()) {
-                    log.error("거리순 정렬 실패 - 등록된 가게 없음");
-                    throw new RuntimeException("등록된 가게가 없습니다.");
+    /**
+     * 가게 목록 전체를 JSON 배열로 스트리밍합니다.
+     * 키셋 페이지 단위로 읽어 바로 출력하므로 가게 수와 관계없이 요청당 메모리 사용량이 일정합니다.
+     * OSIV로 영속성 컨텍스트가 응답 끝까지 열려 있으므로, 출력한 묶음은 준영속 상태로 분리하여 쌓이지 않게 합니다.
+     *
+     * @param sort         정렬 기준 (alphabet (default), rating)
+     * @param outputStream 응답 출력 스트림
+     * @throws IllegalArgumentException 스트리밍을 지원하지 않는 정렬 기준인 경우
+     */
+    public void streamStores(String sort, OutputStream outputStream) throws IOException {
+        log.info("가게 목록 스트리밍 요청 처리 시작: 정렬 기준={}", sort);
+
+        if ("distance".equals(sort)) {
+            log.error("가게 목록 스트리밍 실패 - 거리순 미지원");
+            throw new IllegalArgumentException("거리순 정렬은 스트리밍을 지원하지 않습니다.");
+        }
+
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            String cursor = null;
+            List<Store> batch;
+            do {
+                batch = findStorePage(sort, cursor, STREAM_BATCH_SIZE);
+                for (Store store : batch) {
+                    generator.writeObject(StoreDto.StoreResponse.from(store));
                 }
+                generator.flush();
 
-                storeList.sort(Comparator.comparingDouble(
-                        store -> distance(lat, lng, store.getLatitude(), store.getLongitude())
-                ));
+                count += batch.size();
+                cursor = batch.isEmpty() ? null : cursorOf(sort, batch.get(batch.size() - 1));
+                entityManager.clear();
+            } while (batch.size() == STREAM_BATCH_SIZE);
 
-                yield storeList;
-            }
+            generator.writeEndArray();
+        }
 
-            default -> {
-                log.debug("정렬 방식: 가나다순");
-                yield storeRepository.findAllByOrderByNameAsc()
-                        .orElseThrow(() -> {
-                            log.error("가나다순 정렬 실패 - 등록된 가게 없음");
-                            return new RuntimeException("등록된 가게가 없습니다.");
-                        });
+        log.info("가게 목록 스트리밍 요청 처리 성공: 전송 건수={}", count);
+    }
+
+
+    /**
+     * 정렬 기준에 맞는 키셋 쿼리로 커서 다음 위치부터 가게를 조회합니다.
+     */
+    private List<Store> findStorePage(String sort, String cursor, int limit) {
+        if ("rating".equals(sort)) {
+            log.debug("정렬 방식: 별점순");
+            if (cursor == null) {
+                return storeRepository.findByOrderByRatingDescIdDesc(Limit.of(limit));
             }
-        };
 
-        log.info("가게 목록 조회 요청 처리 성공");
-        return stores.stream().map(StoreDto.StoreResponse::from).toList();
+            String[] values = CursorCodec.decode(cursor, 2);
+            return storeRepository.findByRatingBefore(
+                    parseCursorValue(values[0], Double::valueOf), parseCursorValue(values[1], Long::valueOf), Limit.of(limit)
+            );
+        }
+
+        log.debug("정렬 방식: 가나다순");
+        if (cursor == null) {
+            return storeRepository.findByOrderByNameAscIdAsc(Limit.of(limit));
+        }
+
+        String[] values = CursorCodec.decode(cursor, 2);
+        return storeRepository.findByNameAfter(values[0], parseCursorValue(values[1], Long::valueOf), Limit.of(limit));
+    }
+
+    private static String cursorOf(String sort, Store store) {
+        return "rating".equals(sort)
+                ? CursorCodec.encode(store.getRating() != null ? store.getRating() : 0.0, store.getId())
+                : CursorCodec.encode(store.getName(), store.getId());
+    }
+
+    private static <T> T parseCursorValue(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 
     /**
-     * 두 좌표 간 유클리디안 거리 계산
+     * 주소를 좌표로 변환한 뒤 공간 인덱스에서 가까운 순서로 가게를 조회합니다.
      */
-    private double distance(double lat1, double lng1, double lat2, double lng2) {
-        double dLat = lat2 - lat1;
-        double dLng = lng2 - lng1;
-        return Math.sqrt(dLat * dLat + dLng * dLng);
+    private CursorPageResponse<StoreDto.StoreResponse> getStoresByDistance(String address, Double radius, int size) {
+        log.debug("정렬 방식: 거리순");
+
+        if (!StringUtils.hasText(address)) {
+            log.error("거리순 정렬 실패 - 주소값 없음");
+            throw new IllegalArgumentException("위치 정보를 불러올 수 없습니다.");
+        }
+
+        if (radius != null && radius <= 0) {
+            log.error("거리순 정렬 실패 - 잘못된 반경: {}", radius);
+            throw new IllegalArgumentException("검색 반경은 0보다 커야 합니다.");
+        }
+
+        KakaoGeocodingApiService.LatLng coordinates =
+                geocodingService.getCoordinates(address);
+        Double lat = coordinates.getLat();
+        Double lng = coordinates.getLng();
+        log.debug("주소 변환 좌표: lat={}, lng={}", lat, lng);
+
+        List<StoreGeoIndex.Nearby> nearby = storeGeoIndex.nearest(lat, lng, size, radius);
+
+        if (nearby.isEmpty() && storeGeoIndex.isEmpty()) {
+            log.error("거리순 정렬 실패 - 등록된 가게 없음");
+            throw new RuntimeException("등록된 가게가 없습니다.");
+        }
+
+        Map<Long, Store> stores = storeRepository.findByStoreIdIn(
+                nearby.stream().map(StoreGeoIndex.Nearby::storeId).toList()
+        ).stream().collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+
+        List<StoreDto.StoreResponse> result = nearby.stream()
+                .filter(near -> stores.containsKey(near.storeId()))
+                .map(near -> StoreDto.StoreResponse.from(stores.get(near.storeId()), near.distanceKm()))
+                .toList();
+
+        log.info("가게 목록 조회 요청 처리 성공");
+        return CursorPageResponse.of(result, null);
     }
 
 
     /**
-     * 가게 이름에 해당하는 키워드로 검색합니다.
+     * 키워드로 가게 이름/주소/소개를 검색하여 관련도 순으로 한 페이지씩 조회합니다.
+     * 검색 인덱스에서 순위가 매겨진 가게 ID를 찾은 뒤, 해당 페이지의 가게만 ID 목록으로 조회합니다.
      *
      * @param keyword 검색 키워드
-     * @return 검색된 가게 응답 리스트
+     * @param cursor  이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 관련도 순으로 정렬된 가게 응답 페이지
      * @throws RuntimeException 검색 결과 없음
      */
-    public List<StoreDto.StoreResponse> searchStore(String keyword) {
+    public CursorPageResponse<StoreDto.StoreResponse> searchStore(String keyword, String cursor, int size) {
         log.info("가게 검색 요청 처리 시작: 키워드={}", keyword);
-        var stores = storeRepository.findByNameContainingIgnoreCase(keyword)
-                .orElseThrow(() -> {
-                    log.error("가게 검색 실패 - 검색 결과 없음");
-                    return new RuntimeException("검색 결과와 일치하는 가게가 없습니다.");
-                });
-
-        log.info("가게 검색 요청 처리 성공: 검색 결과 수={}", stores.size());
-        return stores.stream().map(StoreDto.StoreResponse::from).toList();
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        StoreSearchIndex.Hit after = null;
+        if (cursor != null) {
+            String[] values = CursorCodec.decode(cursor, 2);
+            after = new StoreSearchIndex.Hit(
+                    parseCursorValue(values[1], Long::valueOf), parseCursorValue(values[0], Double::valueOf)
+            );
+        }
+
+        List<StoreSearchIndex.Hit> hits = storeSearchIndex.search(keyword, pageSize + 1, after);
+
+        if (hits.isEmpty() && cursor == null) {
+            log.error("가게 검색 실패 - 검색 결과 없음");
+            throw new RuntimeException("검색 결과와 일치하는 가게가 없습니다.");
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<StoreSearchIndex.Hit> page = hasNext ? hits.subList(0, pageSize) : hits;
+        StoreSearchIndex.Hit last = hasNext ? page.get(page.size() - 1) : null;
+        String nextCursor = last != null ? CursorCodec.encode(last.score(), last.storeId()) : null;
+
+        Map<Long, Store> stores = storeRepository.findByStoreIdIn(
+                page.stream().map(StoreSearchIndex.Hit::storeId).toList()
+        ).stream().collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+
+        List<StoreDto.StoreResponse> result = page.stream()
+                .filter(hit -> stores.containsKey(hit.storeId()))
+                .map(hit -> StoreDto.StoreResponse.from(stores.get(hit.storeId())))
+                .toList();
+
+        log.info("가게 검색 요청 처리 성공: 검색 결과 수={}", result.size());
+        return CursorPageResponse.of(result, nextCursor);
+    }
+
+
+    /**
+     * 입력 중인 검색어로 시작하는 가게 이름을 평점 순으로 조회합니다.
+     * 자동 완성 인덱스만 사용하므로 키 입력마다 호출해도 DB를 조회하지 않습니다.
+     *
+     * @param prefix 입력 중인 검색어 (자음만 입력하면 초성으로도 검색)
+     * @param size   최대 결과 수
+     * @return 자동 완성 결과 목록 (일치하는 가게가 없으면 빈 목록)
+     */
+    public List<StoreDto.CompletionResponse> autocomplete(String prefix, int size) {
+        int limit = Math.min(Math.max(size, 1), StoreAutocompleteIndex.MAX_LIMIT);
+
+        return storeAutocompleteIndex.complete(prefix, limit).stream()
+                .map(completion -> StoreDto.CompletionResponse.builder()
+                        .storeId(completion.storeId())
+                        .name(completion.name())
+                        .rating(completion.rating())
+                        .build())
+                .toList();
     }
 
 
@@ -133,53 +300,59 @@ public class StoreService {
     ) {
         log.info("가게 등록 요청 수신: 이름={}", request.getName());
 
-        Long storeId = generateStoreId();
+        Long storeId = idGenerator.nextId();
         log.debug("생성된 가게 고유 번호: {}", storeId);
 
-        KakaoGeocodingApiService.LatLng coordinates =
-                kakaoGeocodingApiService.getCoordinates(request.getAddress());
-        log.debug("주소 → 좌표 변환 결과: lat={}, lng={}", coordinates.getLat(), coordinates.getLng());
-
         Store store = storeRepository.save(
                 Store.builder()
                         .storeId(storeId)
                         .name(request.getName())
                         .description(request.getDescription())
                         .address(request.getAddress())
-                        .latitude(coordinates.getLat())
-                        .longitude(coordinates.getLng())
-                        .user(user.getUser())
+                        .user(userRepository.getReferenceById(user.getId()))
                         .tables(new ArrayList<>())
                         .build()
         );
 
         store.updateTables(request.getTables());
 
+        // 좌표는 커밋 이후 비동기로 변환하여 채움
+        Transactions.afterCommit(() -> {
+            storeSearchIndex.put(storeId, request.getName(), request.getAddress(), request.getDescription());
+            storeAutocompleteIndex.put(storeId, request.getName(), 0.0);
+            storeGeocodingWorker.enqueue(storeId, request.getAddress());
+        });
+
         log.info("가게 등록 완료: 이름={}, ID={}", store.getName(), store.getStoreId());
         return StoreDto.StoreInfoResponse.from(store);
     }
 
     /**
-     * UUID 기반으로 가게 고유 번호를 생성합니다.
+     * 가게 수정 시각을 조회합니다. 조건부 요청(ETag/Last-Modified) 검증에 사용하며 가게 엔티티와 연관 엔티티를 읽지 않습니다.
+     *
+     * @param storeId 가게 고유 번호
+     * @return 가게 수정 시각 (가게가 없으면 빈 값)
      */
-    private Long generateStoreId() {
-        return Math.abs(UUID.randomUUID().getMostSignificantBits());
+    public Optional<LocalDateTime> getStoreModifiedAt(Long storeId) {
+        return storeRepository.findUpdatedAtByStoreId(storeId);
     }
 
-
     /**
      * 고유 번호로 가게 정보를 조회합니다.
+     * 캐시된 응답이 modifiedAt보다 오래되었으면 다시 조회하여, 조건부 응답의 ETag와 본문이 어긋나지 않게 합니다.
      *
-     * @param storeId 가게 고유 번호
+     * @param storeId    가게 고유 번호
+     * @param modifiedAt 미리 확인한 가게 수정 시각 (null이면 비교하지 않음)
      * @return 가게 응답 정보
      * @throws RuntimeException 가게가 존재하지 않는 경우
      */
-    public StoreDto.StoreInfoResponse getStore(Long storeId) {
+    public StoreDto.StoreInfoResponse getStore(Long storeId, LocalDateTime modifiedAt) {
         log.info("가게 단일 조회 요청: ID={}", storeId);
-        Store store = findStoreOrThrow(storeId);
+        StoreDto.StoreInfoResponse response = storeDetailCache.get(
+                storeId, modifiedAt, () -> loadStoreDetail(storeId));
 
-        log.info("가게 조회 성공: 이름={}", store.getName());
-        return StoreDto.StoreInfoResponse.from(store);
+        log.info("가게 조회 성공: 이름={}", response.getName());
+        return response;
     }
 
 
@@ -196,8 +369,8 @@ public class StoreService {
             Long storeId, StoreDto.UpdateStoreRequest request, CustomUserDetails user
     ) {
         log.info("가게 수정 요청 수신: ID={}", storeId);
+        validateStoreOwner(storeId, user);
         Store store = findStoreOrThrow(storeId);
-        validateStoreOwner(user, store);
 
         if (StringUtils.hasText(request.getName())) {
             log.debug("가게 이름 변경 요청 → {}", request.getName());
@@ -206,10 +379,11 @@ public class StoreService {
 
         if (StringUtils.hasText(request.getAddress())) {
             log.debug("가게 주소 변경 요청 → {}", request.getAddress());
-            KakaoGeocodingApiService.LatLng coordinates =
-                    kakaoGeocodingApiService.getCoordinates(request.getAddress());
-
-            store.updateAddress(request.getAddress(), coordinates.getLat(), coordinates.getLng());
+            store.updateAddress(request.getAddress());
+            Transactions.afterCommit(() -> {
+                storeGeoIndex.remove(storeId);
+                storeGeocodingWorker.enqueue(storeId, request.getAddress());
+            });
         }
 
         if (StringUtils.hasText(request.getDescription())) {
@@ -217,11 +391,28 @@ public class StoreService {
             store.updateDescription(request.getDescription());
         }
 
+        if (StringUtils.hasText(request.getName()) || StringUtils.hasText(request.getAddress())
+                || StringUtils.hasText(request.getDescription())) {
+            String name = store.getName();
+            String address = store.getAddress();
+            String description = store.getDescription();
+            Transactions.afterCommit(() -> storeSearchIndex.put(storeId, name, address, description));
+        }
+
+        if (StringUtils.hasText(request.getName())) {
+            String name = store.getName();
+            Double rating = store.getRating();
+            Transactions.afterCommit(() -> storeAutocompleteIndex.put(storeId, name, rating));
+        }
+
         if (request.getTables() != null && !request.getTables().isEmpty()) {
             log.debug("가게 테이블 정보 변경");
             store.updateTables(request.getTables());
+            Transactions.afterCommit(() -> availabilityService.evict(storeId));
         }
 
+        Transactions.afterCommit(() -> storeDetailCache.evict(storeId));
+
         log.info("가게 수정 요청 처리 성공");
         return StoreDto.StoreInfoResponse.from(store);
     }
@@ -237,15 +428,34 @@ public class StoreService {
     @Transactional
     public void deleteStore(Long storeId, CustomUserDetails user) {
         log.info("가게 삭제 요청 처리: 가게 고유 번호={}", storeId);
-        Store store = findStoreOrThrow(storeId);
-
-        validateStoreOwner(user, store);
+        validateStoreOwner(storeId, user);
 
         log.info("가게 삭제 요청 처리 성공");
         storeRepository.deleteByStoreId(storeId);
+        Transactions.afterCommit(() -> {
+            availabilityService.evict(storeId);
+            storeGeoIndex.remove(storeId);
+            storeSearchIndex.remove(storeId);
+            storeAutocompleteIndex.remove(storeId);
+            storeDetailCache.evict(storeId);
+        });
     }
 
 
+    /**
+     * 가게 상세 응답을 만듭니다. 소유자와 테이블은 가게와 함께 한 번에 조회합니다.
+     *
+     * @param storeId 가게 고유 번호
+     * @return 캐시할 가게 상세 응답
+     * @throws RuntimeException 존재하지 않을 경우
+     */
+    private StoreDetailCache.Detail loadStoreDetail(Long storeId) {
+        Store store = storeRepository.findDetailByStoreId(storeId)
+                .orElseThrow(() -> new RuntimeException("가게 정보를 찾을 수 없습니다."));
+
+        return new StoreDetailCache.Detail(store.getUpdatedAt(), StoreDto.StoreInfoResponse.from(store));
+    }
+
     /**
      * 고유 번호로 가게를 조회하거나 없을 경우 예외 발생
      *
@@ -260,16 +470,22 @@ public class StoreService {
 
 
     /**
-     * 현재 사용자가 가게 소유자인지 검증합니다.
+     * 현재 사용자가 가게 소유자인지 존재 여부 쿼리로 검증합니다.
      *
-     * @param user  현재 사용자
-     * @param store 가게 정보
-     * @throws RuntimeException 소유주 불일치 시 예외 발생
+     * @param storeId 가게 고유 번호
+     * @param user    현재 사용자
+     * @throws RuntimeException 존재하지 않는 가게이거나 소유주 불일치 시 예외 발생
      */
-    private static void validateStoreOwner(CustomUserDetails user, Store store) {
-        if (!store.getUser().getPhone().equals(user.getUsername())) {
-            log.error("해당 작업을 수행할 권한 없음: 소유주={}, 요청자={}", store.getUser().getPhone(), user.getUsername());
-            throw new RuntimeException("가게 소유주 정보가 일치하지 않습니다.");
+    private void validateStoreOwner(Long storeId, CustomUserDetails user) {
+        if (storeRepository.existsByStoreIdAndUser_Id(storeId, user.getId())) {
+            return;
         }
+
+        if (!storeRepository.existsByStoreId(storeId)) {
+            throw new RuntimeException("가게 정보를 찾을 수 없습니다.");
+        }
+
+        log.error("해당 작업을 수행할 권한 없음: 가게={}, 요청자={}", storeId, user.getUsername());
+        throw new RuntimeException("가게 소유주 정보가 일치하지 않습니다.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.ian.tablereservation.store.domain;
+
+import com.ian.tablereservation.common.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주소 → 좌표 변환 결과 캐시입니다.
+ * 좌표가 비어 있는 항목은 "결과 없음" 응답을 캐시한 것입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "geocode_cache")
+public class GeocodeCacheEntry extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 500)
+    private String normalizedAddress;
+
+    private Double latitude;
+    private Double longitude;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isFound() {
+        return latitude != null && longitude != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void refresh(Double latitude, Double longitude, LocalDateTime expiresAt) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.expiresAt = expiresAt;
+    }
+}
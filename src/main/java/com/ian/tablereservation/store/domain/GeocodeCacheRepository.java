@@ -0,0 +1,11 @@
+package com.ian.tablereservation.store.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCacheEntry, Long> {
+    Optional<GeocodeCacheEntry> findByNormalizedAddress(String normalizedAddress);
+}
@@ -0,0 +1,7 @@
+package com.ian.tablereservation.store.domain;
+
+public enum GeocodingStatus {
+    PENDING,
+    RESOLVED,
+    FAILED
+}
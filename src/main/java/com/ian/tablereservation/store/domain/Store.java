@@ -9,15 +9,25 @@ import com.ian.tablereservation.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "stores")
+@Table(
+        name = "stores",
+        indexes = {
+                @Index(name = "idx_stores_name_id", columnList = "name, id"),
+                @Index(name = "idx_stores_rating_id", columnList = "rating, id"),
+                @Index(name = "idx_stores_geocoding_status_id", columnList = "geocoding_status, id")
+        }
+)
 public class Store extends BaseEntity {
 
     @Column(nullable = false, unique = true)
@@ -34,8 +44,50 @@ public class Store extends BaseEntity {
 
     private Double latitude;
     private Double longitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private GeocodingStatus geocodingStatus = GeocodingStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
     private Double rating = 0.0;
 
+    /**
+     * 리뷰 별점 합계와 리뷰 수. 평균 평점(rating)은 이 두 값으로 계산합니다.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private Long ratingSum = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long ratingCount = 0L;
+
+    /**
+     * 별점(1~5)별 리뷰 수. 리뷰 작성/수정/삭제 시 합계와 같은 UPDATE 문에서 함께 증감합니다.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private Long rating1Count = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long rating2Count = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long rating3Count = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long rating4Count = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long rating5Count = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -43,22 +95,35 @@ public class Store extends BaseEntity {
     @OneToMany(mappedBy = "store", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<StoreTable> tables = new ArrayList<>();
 
+    @Builder.Default
     @OneToMany(mappedBy = "store", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Review> reviews = new ArrayList<>();
 
-    public void updateName(String name) {
-        this.name = name;
+    /**
+     * 별점별 리뷰 수를 1점부터 5점까지 순서대로 반환합니다.
+     */
+    public Map<Integer, Long> getRatingHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, rating1Count);
+        histogram.put(2, rating2Count);
+        histogram.put(3, rating3Count);
+        histogram.put(4, rating4Count);
+        histogram.put(5, rating5Count);
+        return histogram;
     }
 
-    public void updateAddress(Double latitude, Double longitude) {
-        this.latitude = latitude;
-        this.longitude = longitude;
+    public void updateName(String name) {
+        this.name = name;
     }
 
-    public void updateAddress(String address, Double latitude, Double longitude) {
+    /**
+     * 주소를 변경하고 좌표를 비웁니다. 좌표는 비동기 지오코딩으로 다시 채워집니다.
+     */
+    public void updateAddress(String address) {
         this.address = address;
-        this.latitude = latitude;
-        this.longitude = longitude;
+        this.latitude = null;
+        this.longitude = null;
+        this.geocodingStatus = GeocodingStatus.PENDING;
     }
 
     public void updateDescription(String description) {
@@ -66,6 +131,8 @@ public class Store extends BaseEntity {
     }
 
     public void updateTables(List<StoreTableDto> tables) {
+        // 테이블만 바뀌면 가게 행이 변경되지 않으므로 수정 시각을 직접 갱신 (상세 응답 ETag 기준)
+        setUpdatedAt(LocalDateTime.now());
         this.tables.clear();
 
         for (StoreTableDto dto : tables) {
@@ -77,8 +144,4 @@ public class Store extends BaseEntity {
             this.tables.add(table);
         }
     }
-
-    public void updateRating(Double rating) {
-        this.rating = rating;
-    }
 }
\ No newline at end of file
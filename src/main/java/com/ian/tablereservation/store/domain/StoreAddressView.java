@@ -0,0 +1,9 @@
+package com.ian.tablereservation.store.domain;
+
+public interface StoreAddressView {
+    Long getId();
+
+    Long getStoreId();
+
+    String getAddress();
+}
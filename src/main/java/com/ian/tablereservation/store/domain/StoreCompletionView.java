@@ -0,0 +1,11 @@
+package com.ian.tablereservation.store.domain;
+
+public interface StoreCompletionView {
+    Long getId();
+
+    Long getStoreId();
+
+    String getName();
+
+    Double getRating();
+}
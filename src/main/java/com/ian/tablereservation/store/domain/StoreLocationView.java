@@ -0,0 +1,9 @@
+package com.ian.tablereservation.store.domain;
+
+public interface StoreLocationView {
+    Long getStoreId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
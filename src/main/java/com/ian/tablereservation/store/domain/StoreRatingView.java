@@ -0,0 +1,21 @@
+package com.ian.tablereservation.store.domain;
+
+public interface StoreRatingView {
+    Long getId();
+
+    Long getStoreId();
+
+    Long getRatingSum();
+
+    Long getRatingCount();
+
+    Long getRating1Count();
+
+    Long getRating2Count();
+
+    Long getRating3Count();
+
+    Long getRating4Count();
+
+    Long getRating5Count();
+}
@@ -1,18 +1,244 @@
 package com.ian.tablereservation.store.domain;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
-    Optional<List<Store>> findAllByOrderByNameAsc();
+    List<Store> findByOrderByNameAscIdAsc(Limit limit);
 
-    Optional<List<Store>> findAllByOrderByRatingDesc();
+    @Query("""
+            select s from Store s
+            where s.name > :name
+            or (s.name = :name and s.id > :id)
+            order by s.name asc, s.id asc
+            """)
+    List<Store> findByNameAfter(String name, Long id, Limit limit);
 
-    Optional<List<Store>> findByNameContainingIgnoreCase(String keyword);
+    List<Store> findByOrderByRatingDescIdDesc(Limit limit);
+
+    @Query("""
+            select s from Store s
+            where s.rating < :rating
+            or (s.rating = :rating and s.id < :id)
+            order by s.rating desc, s.id desc
+            """)
+    List<Store> findByRatingBefore(Double rating, Long id, Limit limit);
 
     Optional<Store> findByStoreId(Long storeId);
 
+    /**
+     * 상세 응답용으로 소유자와 테이블을 함께 조회합니다.
+     */
+    @EntityGraph(attributePaths = {"user", "tables"})
+    Optional<Store> findDetailByStoreId(Long storeId);
+
+    boolean existsByStoreId(Long storeId);
+
+    /**
+     * 가게 수정 시각만 조회합니다. 상세 응답의 조건부 요청 검증에 사용합니다.
+     */
+    @Query("select s.updatedAt from Store s where s.storeId = :storeId")
+    Optional<LocalDateTime> findUpdatedAtByStoreId(Long storeId);
+
+    /**
+     * 가게가 해당 사용자의 소유인지 확인합니다. 가게나 사용자 엔티티를 읽지 않고 인덱스만으로 판단합니다.
+     */
+    boolean existsByStoreIdAndUser_Id(Long storeId, Long userId);
+
+    /**
+     * 해당 사용자가 소유한 가게의 내부 ID를 조회합니다. 소유 여부 확인과 ID 변환을 한 번에 처리합니다.
+     */
+    @Query("select s.id from Store s where s.storeId = :storeId and s.user.id = :userId")
+    Optional<Long> findIdByStoreIdAndUserId(Long storeId, Long userId);
+
+    @Query("select s.id from Store s where s.storeId = :storeId")
+    Optional<Long> findIdByStoreId(Long storeId);
+
+    List<Store> findByStoreIdIn(Collection<Long> storeIds);
+
+    @Query("""
+            select s.storeId as storeId, s.latitude as latitude, s.longitude as longitude
+            from Store s
+            where s.latitude is not null
+            and s.longitude is not null
+            """)
+    List<StoreLocationView> findAllLocations();
+
+    @Query("""
+            select s.storeId as storeId, s.latitude as latitude, s.longitude as longitude
+            from Store s
+            where s.storeId in :storeIds
+            and s.latitude is not null
+            and s.longitude is not null
+            """)
+    List<StoreLocationView> findLocationsByStoreIdIn(Collection<Long> storeIds);
+
+    @Query("""
+            select s.id as id, s.storeId as storeId, s.name as name,
+                   s.address as address, s.description as description
+            from Store s
+            where s.id > :id
+            order by s.id asc
+            """)
+    List<StoreSearchView> findSearchDocumentsAfter(Long id, Limit limit);
+
+    @Query("""
+            select s.id as id, s.storeId as storeId, s.name as name, s.rating as rating
+            from Store s
+            where s.id > :id
+            order by s.id asc
+            """)
+    List<StoreCompletionView> findCompletionsAfter(Long id, Limit limit);
+
+    @Query("""
+            select s.id as id, s.storeId as storeId, s.address as address
+            from Store s
+            where s.geocodingStatus = :status
+            and s.id > :id
+            order by s.id asc
+            """)
+    List<StoreAddressView> findAddressesByGeocodingStatus(GeocodingStatus status, Long id, Limit limit);
+
+    /**
+     * 주어진 시각 이전에 좌표 변환에 실패한 가게를 ID 순으로 조회합니다.
+     */
+    @Query("""
+            select s.id as id, s.storeId as storeId, s.address as address
+            from Store s
+            where s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.FAILED
+            and s.updatedAt < :before
+            and s.id > :id
+            order by s.id asc
+            """)
+    List<StoreAddressView> findGeocodingFailedBefore(LocalDateTime before, Long id, Limit limit);
+
+    /**
+     * 대기 중인 가게 중 주소가 그대로인 가게에만 좌표를 채웁니다.
+     * 비동기 처리 도중 주소가 다시 바뀐 가게는 갱신하지 않습니다.
+     */
+    @Modifying
+    @Query("""
+            update Store s
+            set s.latitude = :latitude, s.longitude = :longitude,
+                s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.RESOLVED,
+                s.updatedAt = :now
+            where s.storeId in :storeIds
+            and s.address = :address
+            and s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.PENDING
+            """)
+    int resolveCoordinates(
+            Collection<Long> storeIds, String address, Double latitude, Double longitude, LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+            update Store s
+            set s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.FAILED,
+                s.updatedAt = :now
+            where s.storeId in :storeIds
+            and s.address = :address
+            and s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.PENDING
+            """)
+    int markGeocodingFailed(Collection<Long> storeIds, String address, LocalDateTime now);
+
+    /**
+     * 좌표 변환에 실패한 가게를 다시 대기 상태로 돌립니다.
+     */
+    @Modifying
+    @Query("""
+            update Store s
+            set s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.PENDING,
+                s.updatedAt = :now
+            where s.storeId in :storeIds
+            and s.geocodingStatus = com.ian.tablereservation.store.domain.GeocodingStatus.FAILED
+            """)
+    int requeueGeocodingFailed(Collection<Long> storeIds, LocalDateTime now);
+
+    /**
+     * 추가된 별점과 제거된 별점을 별점 합계, 리뷰 수, 별점별 리뷰 수에 반영합니다. 0은 해당 없음을 뜻합니다.
+     * (작성: added만, 삭제: removed만, 수정: 둘 다) 행 단위 UPDATE이므로 동시에 작성된 리뷰도 누락 없이 반영됩니다.
+     * 각 컬럼은 자기 자신만 참조하므로 MySQL의 SET 적용 순서와 무관합니다.
+     * 상세/목록 응답이 바뀌므로 수정 시각도 함께 갱신합니다.
+     */
+    @Modifying
+    @Query("""
+            update Store s
+            set s.ratingSum = s.ratingSum + :added - :removed,
+                s.ratingCount = s.ratingCount
+                    + case when :added > 0 then 1 else 0 end - case when :removed > 0 then 1 else 0 end,
+                s.rating1Count = s.rating1Count
+                    + case when :added = 1 then 1 else 0 end - case when :removed = 1 then 1 else 0 end,
+                s.rating2Count = s.rating2Count
+                    + case when :added = 2 then 1 else 0 end - case when :removed = 2 then 1 else 0 end,
+                s.rating3Count = s.rating3Count
+                    + case when :added = 3 then 1 else 0 end - case when :removed = 3 then 1 else 0 end,
+                s.rating4Count = s.rating4Count
+                    + case when :added = 4 then 1 else 0 end - case when :removed = 4 then 1 else 0 end,
+                s.rating5Count = s.rating5Count
+                    + case when :added = 5 then 1 else 0 end - case when :removed = 5 then 1 else 0 end,
+                s.updatedAt = :now
+            where s.id = :id
+            """)
+    int applyRatingChange(Long id, int added, int removed, LocalDateTime now);
+
+    /**
+     * 별점 합계와 리뷰 수로 평균 평점을 다시 계산합니다.
+     * MySQL은 SET 절을 왼쪽부터 순서대로 적용하므로, 카운터 갱신과 같은 문장에 두지 않고 별도 문장으로 실행합니다.
+     */
+    @Modifying
+    @Query("""
+            update Store s
+            set s.rating = case when s.ratingCount > 0 then 1.0 * s.ratingSum / s.ratingCount else 0.0 end
+            where s.id = :id
+            """)
+    int refreshRating(Long id);
+
+    /**
+     * 리뷰가 달리기 전에 만들어져 평점이 NULL로 남은 가게의 평점을 카운터 기준으로 채웁니다.
+     */
+    @Modifying
+    @Query("""
+            update Store s
+            set s.rating = case when s.ratingCount > 0 then 1.0 * s.ratingSum / s.ratingCount else 0.0 end
+            where s.rating is null
+            """)
+    int fillMissingRatings();
+
+    @Query("""
+            select s.id as id, s.storeId as storeId, s.ratingSum as ratingSum, s.ratingCount as ratingCount,
+                   s.rating1Count as rating1Count, s.rating2Count as rating2Count, s.rating3Count as rating3Count,
+                   s.rating4Count as rating4Count, s.rating5Count as rating5Count
+            from Store s
+            where s.id > :id
+            order by s.id asc
+            """)
+    List<StoreRatingView> findRatingCountersAfter(Long id, Limit limit);
+
+    /**
+     * 리뷰 테이블을 기준으로 별점 합계, 리뷰 수, 별점별 리뷰 수를 다시 맞춥니다.
+     */
+    @Modifying
+    @Query("""
+            update Store s
+            set s.ratingSum = coalesce((select sum(r.rating) from Review r where r.store.id = s.id), 0),
+                s.ratingCount = (select count(r) from Review r where r.store.id = s.id),
+                s.rating1Count = (select count(r) from Review r where r.store.id = s.id and r.rating = 1),
+                s.rating2Count = (select count(r) from Review r where r.store.id = s.id and r.rating = 2),
+                s.rating3Count = (select count(r) from Review r where r.store.id = s.id and r.rating = 3),
+                s.rating4Count = (select count(r) from Review r where r.store.id = s.id and r.rating = 4),
+                s.rating5Count = (select count(r) from Review r where r.store.id = s.id and r.rating = 5),
+                s.updatedAt = :now
+            where s.id = :id
+            """)
+    int recalculateRatingCounters(Long id, LocalDateTime now);
+
     void deleteByStoreId(Long storeId);
 }
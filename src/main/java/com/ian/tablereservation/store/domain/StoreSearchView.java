@@ -0,0 +1,13 @@
+package com.ian.tablereservation.store.domain;
+
+public interface StoreSearchView {
+    Long getId();
+
+    Long getStoreId();
+
+    String getName();
+
+    String getAddress();
+
+    String getDescription();
+}
@@ -1,6 +1,7 @@
 package com.ian.tablereservation.store.dto;
 
-import com.ian.tablereservation.review.dto.ReviewDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ian.tablereservation.store.domain.GeocodingStatus;
 import com.ian.tablereservation.store.domain.Store;
 import com.ian.tablereservation.store.table.domain.StoreTable;
 import com.ian.tablereservation.store.table.dto.StoreTableDto;
@@ -9,8 +10,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class StoreDto {
@@ -55,6 +58,10 @@ public class StoreDto {
         private String address;
         private String description;
         private Double rating;
+        private LocalDateTime updatedAt;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double distance;
 
         public static StoreResponse from(Store store) {
             return StoreResponse.builder()
@@ -63,11 +70,35 @@ public class StoreDto {
                     .address(store.getAddress())
                     .description(store.getDescription())
                     .rating(store.getRating() != null ? store.getRating() : 0.0)
+                    .updatedAt(store.getUpdatedAt())
+                    .build();
+        }
+
+        public static StoreResponse from(Store store, double distanceKm) {
+            return StoreResponse.builder()
+                    .storeId(store.getStoreId())
+                    .name(store.getName())
+                    .address(store.getAddress())
+                    .description(store.getDescription())
+                    .rating(store.getRating() != null ? store.getRating() : 0.0)
+                    .updatedAt(store.getUpdatedAt())
+                    .distance(Math.round(distanceKm * 1000) / 1000.0)
                     .build();
         }
     }
 
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CompletionResponse {
+        private Long storeId;
+        private String name;
+        private Double rating;
+    }
+
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -78,11 +109,12 @@ public class StoreDto {
         private String address;
         private Double latitude;
         private Double longitude;
+        private GeocodingStatus geocodingStatus;
         private String description;
         private String owner;
         private List<StoreTableDto> tables;
         private Double rating;
-        private List<ReviewDto.ReviewResponse> reviews;
+        private ReviewSummary reviewSummary;
 
         public static StoreInfoResponse from(Store store) {
             return StoreInfoResponse.builder()
@@ -91,6 +123,7 @@ public class StoreDto {
                     .address(store.getAddress())
                     .latitude(store.getLatitude())
                     .longitude(store.getLongitude())
+                    .geocodingStatus(store.getGeocodingStatus())
                     .description(store.getDescription())
                     .owner(store.getUser().getName())
                     .tables(store.getTables().stream()
@@ -98,10 +131,29 @@ public class StoreDto {
                             .toList()
                     )
                     .rating(store.getRating() != null ? store.getRating() : 0.0)
-                    .reviews(store.getReviews().stream()
-                            .map(ReviewDto.ReviewResponse::from)
-                            .toList()
-                    )
+                    .reviewSummary(ReviewSummary.from(store))
+                    .build();
+        }
+    }
+
+
+    /**
+     * 가게 상세 응답에 포함되는 리뷰 요약입니다. 리뷰 목록은 /stores/{storeId}/reviews 로 따로 조회합니다.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReviewSummary {
+        private Long count;
+        private Double average;
+        private Map<Integer, Long> histogram;
+
+        public static ReviewSummary from(Store store) {
+            return ReviewSummary.builder()
+                    .count(store.getRatingCount())
+                    .average(store.getRating() != null ? store.getRating() : 0.0)
+                    .histogram(store.getRatingHistogram())
                     .build();
         }
     }
@@ -19,7 +19,7 @@ public class StoreTable extends BaseEntity {
     private Integer number;
     private Integer capacity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Store store;
 
     @OneToMany(mappedBy = "table", cascade = CascadeType.REMOVE)
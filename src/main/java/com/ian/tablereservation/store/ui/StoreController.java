@@ -1,18 +1,26 @@
 package com.ian.tablereservation.store.ui;
 
+import com.ian.tablereservation.common.dto.CursorPageResponse;
 import com.ian.tablereservation.common.security.CustomUserDetails;
+import com.ian.tablereservation.common.support.ETags;
 import com.ian.tablereservation.store.application.StoreService;
 import com.ian.tablereservation.store.dto.StoreDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -24,45 +32,119 @@ public class StoreController {
 
 
     /**
-     * 정렬 기준과 주소 정보를 기반으로 가게 목록을 조회합니다.
+     * 정렬 기준과 주소 정보를 기반으로 가게 목록을 한 페이지씩 조회합니다.
      *
      * @param sort    정렬 기준 (가나다순(default), 거리순, 별점순)
      * @param address 거리 정렬 시 기준이 되는 주소 (선택)
-     * @return 정렬된 가게 목록
+     * @param radius  거리 정렬 시 검색 반경 km (선택)
+     * @param cursor  다음 페이지 커서 (선택)
+     * @param size       페이지 크기
+     * @param webRequest 조건부 요청 검증용 요청 정보
+     * @return 정렬된 가게 목록 페이지 (페이지 내용이 같으면 304)
      */
     @GetMapping
     public ResponseEntity<?> getSortStores(
             @RequestParam(defaultValue = "alphabet") String sort,
-            @RequestParam(required = false) String address
+            @RequestParam(required = false) String address,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
     ) {
         log.info("가게 목록 조회 요청 수신");
-        log.debug("정렬 기준: {}, 주소: {}", sort, address);
+        log.debug("정렬 기준: {}, 주소: {}, 반경: {}, 커서: {}, 크기: {}", sort, address, radius, cursor, size);
+
+        CursorPageResponse<StoreDto.StoreResponse> stores =
+                storeService.getSortStores(sort, address, radius, cursor, size);
+
+        // 목록은 가게 삭제로도 바뀌므로 Last-Modified 없이 페이지 구성(가게 번호, 수정 시각, 거리)으로만 비교
+        List<Object> versions = new ArrayList<>();
+        for (StoreDto.StoreResponse store : stores.getItems()) {
+            versions.add(store.getStoreId());
+            versions.add(store.getUpdatedAt());
+            versions.add(store.getDistance());
+        }
+        versions.add(stores.getNextCursor());
+        if (webRequest.checkNotModified(ETags.of(versions.toArray()))) {
+            log.info("가게 목록 변경 없음: 304 응답");
+            return null;
+        }
+
+        log.info("가게 목록 조회 성공: 총 {}건", stores.getItems().size());
+        return ResponseEntity.ok(stores);
+    }
 
-        List<StoreDto.StoreResponse> stores = storeService.getSortStores(sort, address);
 
-        log.info("가게 목록 조회 성공: 총 {}건", stores.size());
-        return ResponseEntity.ok(stores);
+    /**
+     * 가게 목록 전체를 JSON 배열로 스트리밍합니다.
+     * 대량 조회용이며, 서버는 페이지 단위로 읽어 바로 전송합니다.
+     *
+     * @param sort 정렬 기준 (가나다순(default), 별점순)
+     * @return 가게 목록 JSON 배열 스트림
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamStores(
+            @RequestParam(defaultValue = "alphabet") String sort
+    ) {
+        log.info("가게 목록 스트리밍 요청 수신: 정렬 기준={}", sort);
+
+        if ("distance".equals(sort)) {
+            log.error("가게 목록 스트리밍 실패 - 거리순 미지원");
+            throw new IllegalArgumentException("거리순 정렬은 스트리밍을 지원하지 않습니다.");
+        }
+
+        StreamingResponseBody body = outputStream -> storeService.streamStores(sort, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
 
     /**
-     * 키워드를 기반으로 가게를 검색합니다.
+     * 키워드를 기반으로 가게를 관련도 순으로 한 페이지씩 검색합니다.
+     * 가게 이름, 주소, 소개를 대상으로 하며 이름에 일치할수록 앞에 옵니다.
      *
      * @param keyword 검색할 키워드
-     * @return 키워드에 해당하는 가게 목록
+     * @param cursor  다음 페이지 커서 (선택)
+     * @param size    페이지 크기
+     * @return 키워드에 해당하는 가게 목록 페이지
      */
     @GetMapping("/search")
-    public ResponseEntity<?> searchStore(@RequestParam String keyword) {
+    public ResponseEntity<?> searchStore(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         log.info("가게 검색 요청 수신");
-        log.debug("검색 키워드: {}", keyword);
+        log.debug("검색 키워드: {}, 커서: {}, 크기: {}", keyword, cursor, size);
 
-        List<StoreDto.StoreResponse> stores = storeService.searchStore(keyword);
+        CursorPageResponse<StoreDto.StoreResponse> stores = storeService.searchStore(keyword, cursor, size);
 
-        log.info("가게 검색 완료: 검색 결과 {}건", stores.size());
+        log.info("가게 검색 완료: 검색 결과 {}건", stores.getItems().size());
         return ResponseEntity.ok(stores);
     }
 
 
+    /**
+     * 입력 중인 검색어로 시작하는 가게 이름을 평점 순으로 조회합니다.
+     * 키 입력마다 호출하는 자동 완성용이며, 자음만 입력하면 초성으로도 검색합니다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size   최대 결과 수
+     * @return 자동 완성 결과 목록
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.debug("가게 자동 완성 요청 수신: 검색어={}, 크기={}", prefix, size);
+
+        List<StoreDto.CompletionResponse> completions = storeService.autocomplete(prefix, size);
+        return ResponseEntity.ok(completions);
+    }
+
+
     /**
      * 새로운 가게를 등록합니다.
      * 요청자는 반드시 PARTNER 권한을 가지고 있어야 합니다.
@@ -89,14 +171,24 @@ public class StoreController {
 
     /**
      * 특정 가게의 상세 정보를 조회합니다.
+     * 가게 수정 시각으로 조건부 요청을 먼저 확인하므로, 변경이 없으면 가게 정보를 읽지 않고 304로 응답합니다.
      *
-     * @param storeId 조회할 가게의 고유 ID
-     * @return 가게 상세 정보
+     * @param storeId    조회할 가게의 고유 ID
+     * @param webRequest 조건부 요청 검증용 요청 정보
+     * @return 가게 상세 정보 (변경이 없으면 304)
      */
     @GetMapping("/{storeId}")
-    public ResponseEntity<?> getStore(@PathVariable Long storeId) {
+    public ResponseEntity<?> getStore(@PathVariable Long storeId, WebRequest webRequest) {
         log.info("가게 상세 조회 요청 수신: ID={}", storeId);
-        StoreDto.StoreInfoResponse store = storeService.getStore(storeId);
+
+        Optional<LocalDateTime> modifiedAt = storeService.getStoreModifiedAt(storeId);
+        if (modifiedAt.isPresent() && webRequest.checkNotModified(
+                ETags.of(storeId, modifiedAt.get()), ETags.lastModified(modifiedAt.get()))) {
+            log.info("가게 상세 변경 없음: 304 응답");
+            return null;
+        }
+
+        StoreDto.StoreInfoResponse store = storeService.getStore(storeId, modifiedAt.orElse(null));
 
         log.info("가게 상세 조회 완료: 이름={}", store.getName());
         return ResponseEntity.ok(store);
@@ -30,7 +30,7 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "user")
+    @OneToMany(mappedBy = "user")
     List<Store> stores = new ArrayList<>();
 
     public void encodePassword(String password) {
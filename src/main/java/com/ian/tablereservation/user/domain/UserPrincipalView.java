@@ -0,0 +1,17 @@
+package com.ian.tablereservation.user.domain;
+
+import com.ian.tablereservation.common.enums.Role;
+
+/**
+ * 인증에 필요한 사용자 컬럼만 담는 조회 전용 프로젝션입니다.
+ */
+public interface UserPrincipalView {
+
+    Long getId();
+
+    String getPhone();
+
+    Role getRole();
+
+    String getPassword();
+}
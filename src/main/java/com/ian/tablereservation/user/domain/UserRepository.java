@@ -9,5 +9,10 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhone(String phone);
 
+    /**
+     * 인증용 사용자 정보를 조회합니다. 연관 엔티티를 읽지 않고 필요한 컬럼만 조회합니다.
+     */
+    Optional<UserPrincipalView> findPrincipalByPhone(String phone);
+
     boolean existsByPhone(String phone);
 }
@@ -0,0 +1,51 @@
+package com.ian.tablereservation.common.id;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NodeIdLeaseTest {
+
+    private SchedulerLeaseManager leaseManager;
+    private NodeIdLease nodeIdLease;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = mock(SchedulerLeaseManager.class);
+        nodeIdLease = new NodeIdLease(leaseManager);
+    }
+
+
+    @Test
+    void skipsNodeIdsLeasedByOtherInstances() {
+        when(leaseManager.tryAcquire(eq("id-node-1023"), any())).thenReturn(false);
+        when(leaseManager.tryAcquire(eq("id-node-0"), any())).thenReturn(false);
+        when(leaseManager.tryAcquire(eq("id-node-1"), any())).thenReturn(true);
+
+        int nodeId = nodeIdLease.claim(-1);
+        nodeIdLease.renew();
+        nodeIdLease.release();
+
+        assertThat(nodeId).isEqualTo(1);
+        verify(leaseManager, times(2)).tryAcquire(eq("id-node-1"), any());
+        verify(leaseManager).release("id-node-1");
+    }
+
+    @Test
+    void failsWhenEveryNodeIdIsLeased() {
+        when(leaseManager.tryAcquire(any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> nodeIdLease.claim(0))
+                .isInstanceOf(IllegalStateException.class);
+        verify(leaseManager, times(SnowflakeIdGenerator.MAX_NODE_ID + 1)).tryAcquire(any(), any());
+    }
+}
@@ -0,0 +1,177 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlotRepository;
+import com.ian.tablereservation.reservation.domain.SlotView;
+import com.ian.tablereservation.store.domain.Store;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import com.ian.tablereservation.store.table.domain.StoreTable;
+import com.ian.tablereservation.support.JpaSliceTest;
+import com.ian.tablereservation.user.domain.User;
+import com.ian.tablereservation.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.CONFIRMED;
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.REQUESTED;
+import static com.ian.tablereservation.support.TestFixtures.store;
+import static com.ian.tablereservation.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 서로 다른 인스턴스의 코디네이터가 같은 (table_id, slot_start)를 동시에 점유하려 할 때
+ * reservation_slots 유니크 키가 하나만 커밋되도록 막는지 실제 트랜잭션으로 확인합니다.
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingCoordinatorSlotClaimTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(19, 0));
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Reservation first;
+    private Reservation second;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User partner = userRepository.save(user("01000000000", Role.ROLE_PARTNER));
+            Store store = store(1L, partner);
+            StoreTable table = StoreTable.builder().number(1).capacity(4).store(store).build();
+            store.getTables().add(table);
+            storeRepository.save(store);
+
+            first = reservationRepository.save(reservation(1001L, store, table, partner));
+            second = reservationRepository.save(reservation(1002L, store, table, partner));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            slotRepository.deleteAllInBatch();
+            reservationRepository.deleteAllInBatch();
+            storeRepository.deleteAll();
+            storeRepository.flush();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+
+    @Test
+    void onlyOneNodeCommitsSameSlot() {
+        // 두 인스턴스 모두 상대의 확정을 아직 모르는 상태 (인메모리 인덱스에는 빈 슬롯)
+        BookingCoordinator nodeA = coordinator(slotRepository);
+        BookingCoordinator nodeB = coordinator(slotRepository);
+
+        transactionTemplate.executeWithoutResult(status -> nodeA.confirm(load(first)));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> nodeB.confirm(load(second))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("해당 시간에는 예약이 불가능합니다.");
+
+        assertThat(slotRepository.findAll()).allSatisfy(slot ->
+                assertThat(slot.getReservationId()).isEqualTo(first.getReservationId()));
+        assertThat(reservationRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(CONFIRMED);
+        assertThat(reservationRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(REQUESTED);
+    }
+
+    @Test
+    void batchConfirmationLosingSlotToAnotherNodeRollsBack() {
+        BookingCoordinator nodeA = coordinator(slotRepository);
+
+        // B가 점유 슬롯을 읽은 직후, 쓰기 전에 A가 같은 슬롯을 확정하고 커밋함
+        ReservationSlotRepository racingSlots = mock(ReservationSlotRepository.class, delegatesTo(slotRepository));
+        doAnswer(invocation -> {
+            List<SlotView> occupied = slotRepository.findOccupied(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            transactionTemplate.executeWithoutResult(status -> nodeA.confirm(load(first)));
+            return occupied;
+        }).when(racingSlots).findOccupied(anyCollection(), any(), any());
+        BookingCoordinator nodeB = coordinator(racingSlots);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> nodeB.confirmAll(List.of(candidate(second)))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("다른 요청과 예약 시간이 겹쳐 처리하지 못했습니다. 다시 시도해주세요.");
+
+        assertThat(slotRepository.findAll()).allSatisfy(slot ->
+                assertThat(slot.getReservationId()).isEqualTo(first.getReservationId()));
+        assertThat(reservationRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(REQUESTED);
+    }
+
+
+    private BookingCoordinator coordinator(ReservationSlotRepository slots) {
+        TableAvailabilityIndex index = new TableAvailabilityIndex(reservationRepository);
+        index.rebuild();
+        return new BookingCoordinator(index, reservationRepository, slots, mock(NoShowDueQueue.class));
+    }
+
+    private Reservation load(Reservation reservation) {
+        return reservationRepository.findByReservationIdAndStore_StoreId(reservation.getReservationId(), 1L)
+                .orElseThrow();
+    }
+
+    private static Reservation reservation(Long reservationId, Store store, StoreTable table, User user) {
+        return Reservation.builder()
+                .reservationId(reservationId)
+                .store(store)
+                .table(table)
+                .user(user)
+                .numberOfPeople(2)
+                .startDateTime(START)
+                .endDateTime(START.plusMinutes(60))
+                .status(REQUESTED)
+                .build();
+    }
+
+    private static ConfirmedReservationView candidate(Reservation reservation) {
+        return new ConfirmedReservationView() {
+            public Long getId() { return reservation.getId(); }
+            public Long getReservationId() { return reservation.getReservationId(); }
+            public Long getStoreId() { return 1L; }
+            public Long getTableId() { return reservation.getTable().getId(); }
+            public LocalDateTime getStartDateTime() { return reservation.getStartDateTime(); }
+            public LocalDateTime getEndDateTime() { return reservation.getEndDateTime(); }
+        };
+    }
+}
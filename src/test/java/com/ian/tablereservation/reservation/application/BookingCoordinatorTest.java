@@ -0,0 +1,183 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlotRepository;
+import com.ian.tablereservation.reservation.domain.SlotView;
+import com.ian.tablereservation.store.domain.Store;
+import com.ian.tablereservation.store.table.domain.StoreTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.CONFIRMED;
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.REQUESTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingCoordinatorTest {
+
+    private static final int ATTEMPTS = 2000;
+    private static final LocalDateTime START = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(19, 0));
+
+    private ReservationRepository reservationRepository;
+    private ReservationSlotRepository slotRepository;
+    private TableAvailabilityIndex availabilityIndex;
+    private BookingCoordinator bookingCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        slotRepository = mock(ReservationSlotRepository.class);
+
+        availabilityIndex = new TableAvailabilityIndex(reservationRepository);
+        availabilityIndex.rebuild();
+
+        bookingCoordinator = new BookingCoordinator(
+                availabilityIndex,
+                reservationRepository,
+                slotRepository,
+                mock(NoShowDueQueue.class)
+        );
+    }
+
+    @Test
+    void onlyOneOfConcurrentConfirmationsForSameSlotWins() throws InterruptedException {
+        List<Reservation> reservations = LongStream.range(0, ATTEMPTS)
+                .mapToObj(id -> reservation(id, 1L))
+                .toList();
+
+        AtomicInteger wins = confirmConcurrently(reservations);
+
+        assertThat(wins.get()).isEqualTo(1);
+        assertThat(reservations.stream().filter(r -> r.getStatus() == CONFIRMED)).hasSize(1);
+        assertThat(availabilityIndex.isOccupied(1L, START, START.plusMinutes(30))).isTrue();
+    }
+
+    @Test
+    void confirmationsForDifferentTablesAllWin() throws InterruptedException {
+        List<Reservation> reservations = LongStream.range(0, ATTEMPTS)
+                .mapToObj(id -> reservation(id, id))
+                .toList();
+
+        AtomicInteger wins = confirmConcurrently(reservations);
+
+        assertThat(wins.get()).isEqualTo(ATTEMPTS);
+    }
+
+    @Test
+    void confirmAllSkipsOccupiedAndOverlappingCandidatesInOnePass() {
+        when(slotRepository.findOccupied(anyCollection(), any(), any()))
+                .thenReturn(List.of(slot(2L, START)));
+        when(reservationRepository.updatePendingStatus(anyCollection(), eq(CONFIRMED), any()))
+                .thenReturn(2);
+
+        List<ConfirmedReservationView> confirmed = bookingCoordinator.confirmAll(List.of(
+                candidate(1L, 1L, START),
+                candidate(2L, 1L, START.plusMinutes(30)),
+                candidate(3L, 2L, START),
+                candidate(4L, 3L, START)
+        ));
+
+        assertThat(confirmed).extracting(ConfirmedReservationView::getReservationId).containsExactly(1L, 4L);
+        assertThat(availabilityIndex.isOccupied(1L, START, START.plusMinutes(30))).isTrue();
+        assertThat(availabilityIndex.isOccupied(3L, START, START.plusMinutes(30))).isTrue();
+        verify(slotRepository, times(1)).findOccupied(anyCollection(), any(), any());
+        verify(reservationRepository, times(1)).updatePendingStatus(eq(List.of(1L, 4L)), eq(CONFIRMED), any());
+    }
+
+    @Test
+    void confirmAllSkipsCandidateOverlappingConfirmedReservationWithoutSlotRows() {
+        // 슬롯 행 없이 확정된 기존 예약은 인덱스(또는 예약 테이블)에만 존재
+        availabilityIndex.occupy(1L, START.plusMinutes(30), START.plusMinutes(90));
+        when(slotRepository.findOccupied(anyCollection(), any(), any())).thenReturn(List.of());
+        when(reservationRepository.updatePendingStatus(anyCollection(), eq(CONFIRMED), any())).thenReturn(1);
+
+        List<ConfirmedReservationView> confirmed = bookingCoordinator.confirmAll(List.of(
+                candidate(1L, 1L, START),
+                candidate(2L, 2L, START)
+        ));
+
+        assertThat(confirmed).extracting(ConfirmedReservationView::getReservationId).containsExactly(2L);
+        verify(reservationRepository, times(1)).updatePendingStatus(eq(List.of(2L)), eq(CONFIRMED), any());
+    }
+
+
+    private AtomicInteger confirmConcurrently(List<Reservation> reservations) throws InterruptedException {
+        AtomicInteger wins = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(reservations.size());
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(reservations.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Reservation reservation : reservations) {
+                executor.submit(() -> {
+                    ready.countDown();
+                    try {
+                        go.await();
+                        bookingCoordinator.confirm(reservation);
+                        wins.incrementAndGet();
+                    } catch (IllegalStateException | InterruptedException ignored) {
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            ready.await();
+            go.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        }
+        return wins;
+    }
+
+    private static Reservation reservation(long reservationId, long tableId) {
+        StoreTable table = StoreTable.builder().number((int) tableId).capacity(4).build();
+        table.setId(tableId);
+
+        return Reservation.builder()
+                .reservationId(reservationId)
+                .store(Store.builder().storeId(1L).build())
+                .table(table)
+                .numberOfPeople(2)
+                .startDateTime(START)
+                .endDateTime(START.plusMinutes(30))
+                .status(REQUESTED)
+                .build();
+    }
+
+    private static ConfirmedReservationView candidate(long reservationId, long tableId, LocalDateTime start) {
+        return new ConfirmedReservationView() {
+            public Long getId() { return reservationId; }
+            public Long getReservationId() { return reservationId; }
+            public Long getStoreId() { return 1L; }
+            public Long getTableId() { return tableId; }
+            public LocalDateTime getStartDateTime() { return start; }
+            public LocalDateTime getEndDateTime() { return start.plusMinutes(60); }
+        };
+    }
+
+    private static SlotView slot(long tableId, LocalDateTime slotStart) {
+        return new SlotView() {
+            public Long getTableId() { return tableId; }
+            public LocalDateTime getSlotStart() { return slotStart; }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.reservation.domain.ConfirmedReservationView;
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.dto.ReservationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.CANCELLED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoShowSweeperTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().minusHours(1);
+
+    private ReservationRepository reservationRepository;
+    private BookingCoordinator bookingCoordinator;
+    private NoShowDueQueue noShowDueQueue;
+    private ReservationEventPublisher reservationEventPublisher;
+    private NoShowSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        bookingCoordinator = mock(BookingCoordinator.class);
+        noShowDueQueue = mock(NoShowDueQueue.class);
+        reservationEventPublisher = mock(ReservationEventPublisher.class);
+
+        SchedulerLeaseManager leaseManager = mock(SchedulerLeaseManager.class);
+        when(leaseManager.tryAcquire(any(), any())).thenReturn(true);
+
+        sweeper = new NoShowSweeper(
+                reservationRepository,
+                bookingCoordinator,
+                noShowDueQueue,
+                leaseManager,
+                reservationEventPublisher,
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(),
+                10,
+                10
+        );
+    }
+
+
+    @Test
+    void reservationCheckedInAfterCandidateReadIsNotCancelled() {
+        ConfirmedReservationView overdue = view(1L, 1001L);
+        ConfirmedReservationView checkedIn = view(2L, 1002L);
+        when(noShowDueQueue.pollDue(any())).thenReturn(List.of(1001L, 1002L));
+        when(reservationRepository.findOverdueConfirmedIn(anyCollection(), any()))
+                .thenReturn(List.of(overdue, checkedIn));
+        // 후보 조회와 잠금 사이에 2번 예약이 체크인됨
+        when(reservationRepository.lockConfirmedIds(anyCollection())).thenReturn(List.of(1L));
+        when(reservationRepository.updateConfirmedStatus(anyCollection(), eq(CANCELLED), any())).thenReturn(1);
+
+        sweeper.sweep();
+
+        verify(reservationRepository).updateConfirmedStatus(eq(Set.of(1L)), eq(CANCELLED), any());
+        verify(bookingCoordinator).releaseAll(List.of(overdue));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReservationDto.ReservationEventResponse>> events = ArgumentCaptor.forClass(List.class);
+        verify(reservationEventPublisher).publish(eq(10L), events.capture());
+        assertThat(events.getValue()).extracting(ReservationDto.ReservationEventResponse::getReservationId)
+                .containsExactly(1001L);
+    }
+
+    @Test
+    void nothingIsReleasedWhenEveryCandidateChangedConcurrently() {
+        when(noShowDueQueue.pollDue(any())).thenReturn(List.of(1001L));
+        when(reservationRepository.findOverdueConfirmedIn(anyCollection(), any()))
+                .thenReturn(List.of(view(1L, 1001L)));
+        when(reservationRepository.lockConfirmedIds(anyCollection())).thenReturn(List.of());
+
+        sweeper.sweep();
+
+        verify(reservationRepository, never()).updateConfirmedStatus(anyCollection(), any(), any());
+        verify(bookingCoordinator, never()).releaseAll(anyList());
+        verify(reservationEventPublisher, never()).publish(any(), anyList());
+    }
+
+
+    private static ConfirmedReservationView view(Long id, Long reservationId) {
+        return new ConfirmedReservationView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getReservationId() {
+                return reservationId;
+            }
+
+            @Override
+            public Long getStoreId() {
+                return 10L;
+            }
+
+            @Override
+            public Long getTableId() {
+                return 100L;
+            }
+
+            @Override
+            public LocalDateTime getStartDateTime() {
+                return START;
+            }
+
+            @Override
+            public LocalDateTime getEndDateTime() {
+                return START.plusHours(2);
+            }
+        };
+    }
+}
@@ -0,0 +1,196 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationEventType;
+import com.ian.tablereservation.reservation.dto.ReservationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationEventHubTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final int BUFFER_SIZE = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch gate;
+
+    private final ReservationEventHub hub = new ReservationEventHub(meterRegistry, BUFFER_SIZE, 20, 15, 30, 0) {
+        @Override
+        SseEmitter createEmitter(long timeoutMs) {
+            RecordingEmitter emitter = new RecordingEmitter(gate);
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+
+    @Test
+    void resumesAfterLastEventId() {
+        hub.subscribe(STORE_ID, null);
+        publish(1L, 2L, 3L);
+        RecordingEmitter first = emitters.get(0);
+        awaitUntil(() -> first.events.size() == 3);
+
+        hub.subscribe(STORE_ID, first.events.get(0).id());
+        RecordingEmitter resumed = emitters.get(1);
+        awaitUntil(() -> resumed.events.size() == 2);
+
+        assertThat(resumed.events).extracting(Sent::id)
+                .containsExactly(first.events.get(1).id(), first.events.get(2).id());
+    }
+
+    @Test
+    void unknownOrExpiredLastEventIdRequestsResync() {
+        hub.subscribe(STORE_ID, null);
+        RecordingEmitter first = emitters.get(0);
+        for (long i = 1; i <= BUFFER_SIZE + 2; i++) {
+            publish(i);
+            long delivered = i;
+            awaitUntil(() -> first.events.size() == delivered);
+        }
+
+        hub.subscribe(STORE_ID, "123-1");
+        hub.subscribe(STORE_ID, first.events.get(0).id());
+
+        awaitUntil(() -> !emitters.get(1).events.isEmpty() && !emitters.get(2).events.isEmpty());
+        assertThat(emitters.get(1).events.get(0).name()).isEqualTo(ReservationEventHub.RESYNC_EVENT);
+        assertThat(emitters.get(2).events.get(0).name()).isEqualTo(ReservationEventHub.RESYNC_EVENT);
+    }
+
+    @Test
+    void slowSubscriberIsEvictedWithoutBlockingOthers() {
+        gate = new CountDownLatch(1);
+        hub.subscribe(STORE_ID, null);
+        gate = null;
+        hub.subscribe(STORE_ID, null);
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+
+        long started = System.nanoTime();
+        for (long i = 1; i <= BUFFER_SIZE * 3; i++) {
+            publish(i);
+            long delivered = i;
+            awaitUntil(() -> fast.events.size() == delivered);
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started)).isLessThan(5);
+        assertThat(meterRegistry.counter("reservation.events.evicted").count()).isEqualTo(1);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(fast.events).hasSize(BUFFER_SIZE * 3);
+        slow.release();
+    }
+
+    @Test
+    void eventsForStoresWithoutSubscribersAreNotBuffered() {
+        publish(1L, 2L);
+
+        assertThat(hub.channelCount()).isZero();
+    }
+
+    @Test
+    void idleChannelIsPurgedAndReconnectRequestsResync() {
+        hub.subscribe(STORE_ID, null);
+        RecordingEmitter first = emitters.get(0);
+        publish(1L);
+        awaitUntil(() -> first.events.size() == 1);
+
+        first.broken = true;
+        publish(2L);
+        awaitUntil(() -> hub.subscriberCount() == 0);
+        hub.purgeIdleChannels();
+        publish(3L);
+
+        assertThat(hub.channelCount()).isZero();
+        hub.subscribe(STORE_ID, first.events.get(0).id());
+        awaitUntil(() -> !emitters.get(1).events.isEmpty());
+        assertThat(emitters.get(1).events.get(0).name()).isEqualTo(ReservationEventHub.RESYNC_EVENT);
+    }
+
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void publish(Long... reservationIds) {
+        List<ReservationDto.ReservationEventResponse> events = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            events.add(ReservationDto.ReservationEventResponse.builder()
+                    .type(ReservationEventType.CREATED)
+                    .reservationId(reservationId)
+                    .build());
+        }
+        hub.publish(STORE_ID, events);
+    }
+
+
+    private record Sent(String id, String name) {
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(.*)$", Pattern.MULTILINE);
+        private static final Pattern NAME = Pattern.compile("^event:(.*)$", Pattern.MULTILINE);
+
+        private final List<Sent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean broken;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            if (broken) {
+                throw new IOException("연결 끊김");
+            }
+
+            String text = builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining());
+            Matcher name = NAME.matcher(text);
+            if (name.find()) {
+                Matcher id = ID.matcher(text);
+                events.add(new Sent(id.find() ? id.group(1) : null, name.group(1)));
+            }
+        }
+
+        private void release() {
+            if (gate != null) {
+                gate.countDown();
+            }
+        }
+    }
+}
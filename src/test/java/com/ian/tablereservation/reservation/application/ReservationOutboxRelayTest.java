@@ -0,0 +1,132 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.reservation.domain.ReservationChangedEvent;
+import com.ian.tablereservation.reservation.domain.ReservationEventType;
+import com.ian.tablereservation.reservation.domain.ReservationOutbox;
+import com.ian.tablereservation.reservation.domain.ReservationOutboxRepository;
+import com.ian.tablereservation.reservation.domain.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationOutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private ReservationOutboxRepository outboxRepository;
+    private SchedulerLeaseManager leaseManager;
+    private RecordingSink sink;
+    private ReservationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(ReservationOutboxRepository.class);
+        leaseManager = mock(SchedulerLeaseManager.class);
+        when(leaseManager.tryAcquire(any(), any())).thenReturn(true);
+
+        sink = new RecordingSink();
+        relay = new ReservationOutboxRelay(
+                outboxRepository,
+                List.of(sink),
+                leaseManager,
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(),
+                10,
+                MAX_ATTEMPTS,
+                7
+        );
+    }
+
+
+    @Test
+    void failedEventHoldsBackLaterEventsOfSameReservation() {
+        sink.failOn = 1L;
+        when(outboxRepository.findUnpublished(any())).thenReturn(List.of(
+                outbox(1L, 100L, ReservationEventType.CREATED, 0),
+                outbox(2L, 200L, ReservationEventType.CREATED, 0),
+                outbox(3L, 100L, ReservationEventType.APPROVED, 0),
+                outbox(4L, 200L, ReservationEventType.APPROVED, 0)
+        ));
+
+        int relayed = relay.relay();
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(sink.delivered).extracting(ReservationChangedEvent::outboxId).containsExactly(2L, 4L);
+        verify(outboxRepository).markPublished(eq(List.of(2L, 4L)), any());
+        verify(outboxRepository).incrementAttempts(eq(List.of(1L)), any());
+        verify(outboxRepository, never()).markFailed(anyCollection(), any());
+    }
+
+    @Test
+    void eventIsGivenUpAfterMaxAttemptsAndLaterEventsProceed() {
+        sink.failOn = 1L;
+        when(outboxRepository.findUnpublished(any()))
+                .thenReturn(List.of(
+                        outbox(1L, 100L, ReservationEventType.CREATED, MAX_ATTEMPTS - 1),
+                        outbox(3L, 100L, ReservationEventType.APPROVED, 0)))
+                .thenReturn(List.of());
+
+        relay.relay();
+
+        assertThat(sink.delivered).extracting(ReservationChangedEvent::outboxId).containsExactly(3L);
+        verify(outboxRepository).markFailed(eq(List.of(1L)), any());
+        verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+    }
+
+    @Test
+    void relayStopsDrainingBacklogWhenLeaseIsLost() {
+        when(leaseManager.tryAcquire(any(), any())).thenReturn(true, false);
+        List<ReservationOutbox> full = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            full.add(outbox(id, id, ReservationEventType.CREATED, 0));
+        }
+        when(outboxRepository.findUnpublished(any())).thenReturn(full);
+
+        int relayed = relay.relay();
+
+        assertThat(relayed).isEqualTo(10);
+        verify(outboxRepository, times(1)).findUnpublished(any());
+    }
+
+
+    private static ReservationOutbox outbox(Long id, Long reservationId, ReservationEventType type, int attempts) {
+        return ReservationOutbox.builder()
+                .id(id)
+                .reservationId(reservationId)
+                .storeId(1L)
+                .eventType(type)
+                .reservationStatus(ReservationStatus.REQUESTED)
+                .occurredAt(LocalDateTime.now())
+                .attempts(attempts)
+                .build();
+    }
+
+    private static class RecordingSink implements ReservationEventSink {
+        private final List<ReservationChangedEvent> delivered = new ArrayList<>();
+        private Long failOn;
+
+        @Override
+        public void deliver(ReservationChangedEvent event) {
+            if (event.outboxId().equals(failOn)) {
+                throw new IllegalStateException("전달 실패");
+            }
+            delivered.add(event);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ian.tablereservation.reservation.application;
+
+import com.ian.tablereservation.reservation.domain.ReservationRepository;
+import com.ian.tablereservation.reservation.domain.ReservationSlotView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableAvailabilityIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(19, 0));
+    private static final LocalDateTime END = START.plusMinutes(30);
+
+    private ReservationRepository reservationRepository;
+    private TableAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        index = new TableAvailabilityIndex(reservationRepository);
+    }
+
+
+    @Test
+    void rebuildDropsSlotsReleasedOnAnotherInstance() {
+        when(reservationRepository.findConfirmedSlotsEndingAfter(any())).thenReturn(List.of(slot(1L, START, END)));
+        index.rebuild();
+        assertThat(index.isOccupied(1L, START, END)).isTrue();
+
+        when(reservationRepository.findConfirmedSlotsEndingAfter(any())).thenReturn(List.of());
+        index.rebuild();
+
+        assertThat(index.isOccupied(1L, START, END)).isFalse();
+    }
+
+    @Test
+    void changesCommittedDuringRebuildAreKept() {
+        index.rebuild();
+        index.occupy(2L, START, END);
+
+        // 구성 쿼리가 실행되는 동안 다른 요청이 테이블 1을 확정하고 테이블 2를 해제한 상황
+        when(reservationRepository.findConfirmedSlotsEndingAfter(any())).thenAnswer(invocation -> {
+            index.occupy(1L, START, END);
+            index.release(2L, START, END);
+            return List.of(slot(2L, START, END));
+        });
+        index.rebuild();
+
+        assertThat(index.isOccupied(1L, START, END)).isTrue();
+        assertThat(index.isOccupied(2L, START, END)).isFalse();
+    }
+
+
+    private static ReservationSlotView slot(Long tableId, LocalDateTime start, LocalDateTime end) {
+        return new ReservationSlotView() {
+            @Override
+            public Long getTableId() {
+                return tableId;
+            }
+
+            @Override
+            public LocalDateTime getStartDateTime() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndDateTime() {
+                return end;
+            }
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package com.ian.tablereservation.reservation.domain;
+
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.reservation.dto.ReservationDto;
+import com.ian.tablereservation.review.domain.Review;
+import com.ian.tablereservation.review.domain.ReviewRepository;
+import com.ian.tablereservation.review.dto.ReviewDto;
+import com.ian.tablereservation.store.domain.Store;
+import com.ian.tablereservation.store.table.domain.StoreTable;
+import com.ian.tablereservation.support.JpaSliceTest;
+import com.ian.tablereservation.user.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.COMPLETED;
+import static com.ian.tablereservation.reservation.domain.ReservationStatus.CONFIRMED;
+import static com.ian.tablereservation.support.TestFixtures.store;
+import static com.ian.tablereservation.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaSliceTest
+class ReservationFetchPlanTest {
+
+    private static final int RESERVATIONS = 30;
+    private static final LocalDateTime START = LocalDateTime.now().minusHours(2).withNano(0);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Statistics statistics;
+    private Long storeId;
+    private Long storePk;
+    private final List<Reservation> reservations = new ArrayList<>();
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User partner = em.persist(user("01000000000", Role.ROLE_PARTNER));
+        Store store = em.persist(store(1L, partner));
+        storeId = store.getStoreId();
+        storePk = store.getId();
+
+        StoreTable table = StoreTable.builder().number(1).capacity(4).store(store).build();
+        em.persist(table);
+
+        for (int i = 0; i < RESERVATIONS; i++) {
+            User guest = em.persist(user("0101000%04d".formatted(i), Role.ROLE_USER));
+            reservations.add(em.persist(Reservation.builder()
+                    .reservationId(1000L + i)
+                    .store(store)
+                    .table(table)
+                    .user(guest)
+                    .numberOfPeople(2)
+                    .startDateTime(START.plusMinutes(i))
+                    .endDateTime(START.plusMinutes(i + 60))
+                    .status(i == 0 ? COMPLETED : CONFIRMED)
+                    .build()));
+        }
+
+        Reservation reviewed = reservations.get(0);
+        review = Review.builder()
+                .rating(5)
+                .content("맛있어요")
+                .image("")
+                .user(reviewed.getUser())
+                .build();
+        review.linkReservationAndStore(reviewed);
+        em.persist(review);
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+
+    @Test
+    void reservationDetailIsLoadedWithSingleQuery() {
+        Reservation reservation = reservationRepository
+                .findByReservationIdAndStore_StoreId(reservations.get(3).getReservationId(), storeId)
+                .orElseThrow();
+        ReservationDto.ReservationResponse response = ReservationDto.ReservationResponse.from(reservation);
+
+        assertThat(response.getPhone()).isEqualTo("01010000003");
+        assertThat(response.getStoreId()).isEqualTo(storeId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reservationForReviewDoesNotLoadAssociations() {
+        Reservation reservation = reservationRepository
+                .findByReservationId(reservations.get(0).getReservationId())
+                .orElseThrow();
+
+        assertThat(reservation.getUser().getId()).isEqualTo(reservations.get(0).getUser().getId());
+        assertThat(reservation.getStore().getId()).isNotNull();
+        assertThat(reservation.getReview()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reviewWithWriterIsLoadedWithSingleQuery() {
+        Review found = reviewRepository
+                .findByIdAndReservation_ReservationId(review.getId(), reservations.get(0).getReservationId())
+                .orElseThrow();
+        ReviewDto.ReviewResponse response = ReviewDto.ReviewResponse.from(found);
+
+        assertThat(response.getWriter()).isEqualTo("0000");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void noShowSweepQueryCountDoesNotDependOnRows() {
+        List<ConfirmedReservationView> overdue = reservationRepository
+                .findOverdueConfirmed(LocalDateTime.now(), Limit.of(RESERVATIONS));
+
+        assertThat(overdue).hasSize(RESERVATIONS - 1);
+        assertThat(overdue).allSatisfy(view -> assertThat(view.getStoreId()).isEqualTo(storeId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void noShowLockSkipsReservationsNoLongerConfirmed() {
+        List<Long> confirmedIds = reservationRepository.lockConfirmedIds(
+                List.of(reservations.get(0).getId(), reservations.get(1).getId()));
+
+        assertThat(confirmedIds).containsExactly(reservations.get(1).getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void partnerFeedReadsEachPageWithSingleQuery() {
+        LocalDateTime to = START.plusDays(1);
+
+        List<PartnerReservationView> first = reservationRepository.findStoreFeedByStatus(
+                storePk, CONFIRMED, to, START.minusDays(1), 0L, Limit.of(20));
+        PartnerReservationView last = first.get(first.size() - 1);
+        List<PartnerReservationView> second = reservationRepository.findStoreFeedByStatus(
+                storePk, CONFIRMED, to, last.getStartDateTime(), last.getId(), Limit.of(20));
+
+        assertThat(first).hasSize(20);
+        assertThat(second).hasSize(RESERVATIONS - 1 - 20);
+        assertThat(first.get(0).getReservationId()).isEqualTo(1001L);
+        assertThat(second.get(0).getStartDateTime()).isAfter(last.getStartDateTime());
+        assertThat(second).allSatisfy(view -> assertThat(view.getStatus()).isEqualTo(CONFIRMED));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void batchTargetsAreLoadedWithSingleQuery() {
+        List<Long> requested = List.of(1000L, 1005L, 1010L, 9999L);
+
+        List<ReservationStateView> states = reservationRepository.findStatesByStoreAndReservationIdIn(storePk, requested);
+
+        assertThat(states).extracting(ReservationStateView::getReservationId)
+                .containsExactlyInAnyOrder(1000L, 1005L, 1010L);
+        assertThat(states).allSatisfy(view -> assertThat(view.getStoreId()).isEqualTo(storeId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void confirmedReservationsWithoutSlotRowsAreFoundForBackfill() {
+        Reservation slotted = reservations.get(1);
+        em.persist(ReservationSlot.builder()
+                .tableId(slotted.getTable().getId())
+                .slotStart(slotted.getStartDateTime())
+                .reservationId(slotted.getReservationId())
+                .build());
+        em.flush();
+
+        List<ConfirmedReservationView> unslotted = reservationRepository
+                .findConfirmedWithoutSlots(START.minusDays(1), 0L, Limit.of(RESERVATIONS));
+
+        assertThat(unslotted).hasSize(RESERVATIONS - 2);
+        assertThat(unslotted).extracting(ConfirmedReservationView::getReservationId)
+                .doesNotContain(reservations.get(0).getReservationId(), slotted.getReservationId());
+    }
+}
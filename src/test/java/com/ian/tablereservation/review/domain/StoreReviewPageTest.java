@@ -0,0 +1,145 @@
+package com.ian.tablereservation.review.domain;
+
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.reservation.domain.Reservation;
+import com.ian.tablereservation.reservation.domain.ReservationStatus;
+import com.ian.tablereservation.store.domain.Store;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import com.ian.tablereservation.store.table.domain.StoreTable;
+import com.ian.tablereservation.support.JpaSliceTest;
+import com.ian.tablereservation.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.ian.tablereservation.support.TestFixtures.store;
+import static com.ian.tablereservation.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@JpaSliceTest
+class StoreReviewPageTest {
+
+    private static final int REVIEWS = 25;
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 2, 1, 9, 30);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private Long storePk;
+    private final List<Review> reviews = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User partner = em.persist(user("01000000000", Role.ROLE_PARTNER));
+        Store store = em.persist(store(1L, partner));
+        storePk = store.getId();
+
+        StoreTable table = StoreTable.builder().number(1).capacity(4).store(store).build();
+        em.persist(table);
+
+        for (int i = 0; i < REVIEWS; i++) {
+            User guest = em.persist(user("0101000%04d".formatted(i), Role.ROLE_USER));
+            Reservation reservation = em.persist(Reservation.builder()
+                    .reservationId(1000L + i)
+                    .store(store)
+                    .table(table)
+                    .user(guest)
+                    .numberOfPeople(2)
+                    .startDateTime(CREATED.minusDays(1))
+                    .endDateTime(CREATED.minusDays(1).plusHours(1))
+                    .status(ReservationStatus.COMPLETED)
+                    .build());
+
+            Review review = Review.builder()
+                    .rating(i % 5 + 1)
+                    .content("리뷰 " + i)
+                    .image("")
+                    .user(guest)
+                    .build();
+            review.linkReservationAndStore(reservation);
+            // 같은 작성 시각이 섞이도록 두 개씩 묶어 ID로 순서가 갈리는지 확인
+            review.setCreatedAt(CREATED.plusMinutes(i / 2));
+            reviews.add(em.persist(review));
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+
+    @Test
+    void latestReviewsArePagedByCreatedAtThenId() {
+        List<StoreReviewView> first = reviewRepository.findLatestByStoreId(storePk, Limit.of(10));
+        StoreReviewView last = first.get(first.size() - 1);
+        List<StoreReviewView> rest = reviewRepository.findLatestByStoreIdBefore(
+                storePk, last.getCreatedAt(), last.getId(), Limit.of(REVIEWS));
+
+        List<Long> expected = reviews.stream()
+                .sorted(Comparator.comparing(Review::getCreatedAt).thenComparing(Review::getId).reversed())
+                .map(Review::getId)
+                .toList();
+        assertThat(first).extracting(StoreReviewView::getId).containsExactlyElementsOf(expected.subList(0, 10));
+        assertThat(rest).extracting(StoreReviewView::getId).containsExactlyElementsOf(expected.subList(10, REVIEWS));
+        assertThat(first.get(0).getPhone()).isEqualTo("01010000024");
+    }
+
+    @Test
+    void topRatedReviewsArePagedByRatingThenId() {
+        List<StoreReviewView> first = reviewRepository.findTopRatedByStoreId(storePk, Limit.of(7));
+        StoreReviewView last = first.get(first.size() - 1);
+        List<StoreReviewView> rest = reviewRepository.findTopRatedByStoreIdBefore(
+                storePk, last.getRating(), last.getId(), Limit.of(REVIEWS));
+
+        assertThat(first).extracting(StoreReviewView::getRating).containsExactly(5, 5, 5, 5, 5, 4, 4);
+        assertThat(rest).hasSize(REVIEWS - 7);
+        assertThat(rest.get(0).getRating()).isEqualTo(4);
+        assertThat(rest.get(0).getId()).isLessThan(last.getId());
+        assertThat(rest).extracting(StoreReviewView::getRating).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void ratingChangesMaintainHistogramIncrementally() {
+        storeRepository.applyRatingChange(storePk, 5, 0, NOW);
+        storeRepository.applyRatingChange(storePk, 4, 0, NOW);
+        storeRepository.applyRatingChange(storePk, 2, 4, NOW);
+        storeRepository.applyRatingChange(storePk, 3, 0, NOW);
+        storeRepository.applyRatingChange(storePk, 0, 3, NOW);
+        storeRepository.refreshRating(storePk);
+        em.clear();
+
+        Store store = em.find(Store.class, storePk);
+        assertThat(store.getRatingCount()).isEqualTo(2);
+        assertThat(store.getRatingSum()).isEqualTo(7);
+        assertThat(store.getRating()).isEqualTo(3.5);
+        assertThat(store.getUpdatedAt()).isEqualTo(NOW);
+        assertThat(store.getRatingHistogram()).containsExactly(
+                entry(1, 0L), entry(2, 1L), entry(3, 0L), entry(4, 0L), entry(5, 1L));
+    }
+
+    @Test
+    void recalculationRebuildsHistogramFromReviews() {
+        storeRepository.recalculateRatingCounters(storePk, NOW);
+        em.clear();
+
+        Store store = em.find(Store.class, storePk);
+        assertThat(store.getRatingCount()).isEqualTo(REVIEWS);
+        assertThat(store.getRatingSum()).isEqualTo(75);
+        assertThat(store.getRatingHistogram()).containsOnlyKeys(1, 2, 3, 4, 5).allSatisfy(
+                (rating, count) -> assertThat(count).isEqualTo(5L));
+    }
+}
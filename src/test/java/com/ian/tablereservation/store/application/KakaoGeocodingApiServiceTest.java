@@ -0,0 +1,149 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.config.AppConfig;
+import com.ian.tablereservation.common.support.CallNotPermittedException;
+import com.ian.tablereservation.common.support.CircuitBreaker;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KakaoGeocodingApiServiceTest {
+
+    private static final String FOUND_BODY = """
+            {"documents":[{"address_name":"서울 중구 세종대로 110","x":"126.9779","y":"37.5663",
+            "road_address":{"address_name":"서울 중구 세종대로 110","x":"126.9780","y":"37.5664"}}]}
+            """;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long delayMs = 0;
+    private volatile int status = 200;
+    private volatile String body = FOUND_BODY;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/search", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private KakaoGeocodingApiService service(int failureThreshold, long openMs) {
+        RestTemplate restTemplate = new AppConfig().restTemplate(10, 10, 500, 300, 200, 30_000);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/search";
+        return new KakaoGeocodingApiService(restTemplate, "KakaoAK test", url, 4, 100, failureThreshold, openMs);
+    }
+
+
+    @Test
+    void prefersRoadAddressCoordinates() {
+        Optional<KakaoGeocodingApiService.LatLng> coordinates = service(3, 60_000).findCoordinates("서울 중구 세종대로 110");
+
+        assertThat(coordinates).contains(new KakaoGeocodingApiService.LatLng(37.5664, 126.9780));
+    }
+
+    @Test
+    void returnsEmptyWhenNoDocuments() {
+        body = "{\"documents\":[]}";
+
+        assertThat(service(3, 60_000).findCoordinates("없는 주소")).isEmpty();
+    }
+
+    @Test
+    void slowResponseFailsFastOnTimeout() {
+        delayMs = 2_000;
+        KakaoGeocodingApiService service = service(3, 60_000);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> service.findCoordinates("서울"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("위치 서비스를 일시적으로 사용할 수 없습니다.");
+
+        assertThat((System.nanoTime() - started) / 1_000_000).isLessThan(1_500);
+    }
+
+    @Test
+    void openCircuitFailsWithoutCallingServer() {
+        status = 503;
+        KakaoGeocodingApiService service = service(3, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> service.findCoordinates("서울"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .isNotInstanceOf(CallNotPermittedException.class);
+        }
+        assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int before = requests.get();
+        assertThatThrownBy(() -> service.findCoordinates("서울")).isInstanceOf(CallNotPermittedException.class);
+        assertThat(requests.get()).isEqualTo(before);
+    }
+
+    @Test
+    void successfulTrialCallClosesCircuit() throws InterruptedException {
+        status = 500;
+        KakaoGeocodingApiService service = service(1, 100);
+
+        assertThatThrownBy(() -> service.findCoordinates("서울")).isInstanceOf(IllegalStateException.class);
+        assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(150);
+        status = 200;
+
+        assertThat(service.findCoordinates("서울")).isPresent();
+        assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void interruptedTrialCallReopensCircuit() throws InterruptedException {
+        status = 500;
+        KakaoGeocodingApiService service = service(1, 100);
+        assertThatThrownBy(() -> service.findCoordinates("서울")).isInstanceOf(IllegalStateException.class);
+
+        Thread.sleep(150);
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> service.findCoordinates("서울")).isInstanceOf(IllegalStateException.class);
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(150);
+        status = 200;
+        assertThat(service.findCoordinates("서울")).isPresent();
+        assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
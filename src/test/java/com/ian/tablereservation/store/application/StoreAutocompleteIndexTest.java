@@ -0,0 +1,85 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.domain.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreAutocompleteIndexTest {
+
+    private StoreAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(100);
+        index.put(1L, "강남 순대국", 4.1);
+        index.put(2L, "강남역 파스타", 4.8);
+        index.put(3L, "가나 초밥", 3.0);
+        index.put(4L, "Gangnam Burger", 4.5);
+        index.put(5L, "감자탕 본점", 4.9);
+    }
+
+
+    @Test
+    void completesPartiallyTypedHangulRankedByRating() {
+        assertThat(storeIds(index.complete("강남", 10))).containsExactly(2L, 1L);
+        assertThat(storeIds(index.complete("강ㄴ", 10))).containsExactly(2L, 1L);
+        assertThat(storeIds(index.complete("간", 10))).containsExactly(3L);
+        assertThat(storeIds(index.complete("가", 10))).containsExactly(5L, 2L, 1L, 3L);
+        assertThat(storeIds(index.complete("강남순", 10))).containsExactly(1L);
+        assertThat(storeIds(index.complete("gang", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void completesByInitialConsonantsWithoutDuplicates() {
+        assertThat(storeIds(index.complete("ㄱㄴ", 10))).containsExactly(2L, 1L, 3L);
+        assertThat(storeIds(index.complete("ㄱ", 10))).containsExactly(5L, 2L, 1L, 3L);
+        assertThat(storeIds(index.complete("ㄱ", 2))).containsExactly(5L, 2L);
+    }
+
+    @Test
+    void reflectsRenamesAndRemovals() {
+        assertThat(storeIds(index.complete("ㄱ", 10))).containsExactly(5L, 2L, 1L, 3L);
+
+        index.put(1L, "을지로 순대국", 4.1);
+        index.remove(2L);
+
+        assertThat(storeIds(index.complete("ㄱ", 10))).containsExactly(5L, 3L);
+        assertThat(storeIds(index.complete("강남", 10))).isEmpty();
+        assertThat(storeIds(index.complete("ㅇㅈ", 10))).containsExactly(1L);
+        assertThat(index.complete("을지로", 10)).extracting(StoreAutocompleteIndex.Completion::name)
+                .containsExactly("을지로 순대국");
+    }
+
+    @Test
+    void keepsAtMostMaxEntries() {
+        StoreAutocompleteIndex bounded = newIndex(2);
+        bounded.put(1L, "가게 하나", 1.0);
+        bounded.put(2L, "가게 둘", 2.0);
+        bounded.put(3L, "가게 셋", 3.0);
+
+        assertThat(storeIds(bounded.complete("가게", 10))).containsExactly(2L, 1L);
+    }
+
+
+    private static StoreAutocompleteIndex newIndex(int maxEntries) {
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findCompletionsAfter(anyLong(), any())).thenReturn(List.of());
+
+        StoreAutocompleteIndex index = new StoreAutocompleteIndex(storeRepository, new SimpleMeterRegistry(), maxEntries);
+        index.rebuild();
+        return index;
+    }
+
+    private static List<Long> storeIds(List<StoreAutocompleteIndex.Completion> completions) {
+        return completions.stream().map(StoreAutocompleteIndex.Completion::storeId).toList();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.dto.StoreDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreDetailCacheTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private StoreDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StoreDetailCache(meterRegistry, 100, 600);
+        loads = new AtomicInteger();
+    }
+
+
+    @Test
+    void concurrentMissesShareSingleLoad() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<StoreDto.StoreInfoResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loaderStarted.countDown();
+                await(release);
+                return detail(1L, "강남 순대국");
+            })));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> detail(1L, "다른 조회"))));
+            }
+            while (meterRegistry.get("store.detail.cache.coalesced").counter().count() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<StoreDto.StoreInfoResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getName()).isEqualTo("강남 순대국");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(cache.get(1L, () -> detail(1L, "재조회")).getName()).isEqualTo("강남 순대국");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evictionDuringLoadSkipsCaching() {
+        StoreDto.StoreInfoResponse response = cache.get(1L, () -> {
+            StoreDetailCache.Detail stale = detail(1L, "변경 전");
+            cache.evict(1L);
+            return stale;
+        });
+
+        assertThat(response.getName()).isEqualTo("변경 전");
+        assertThat(cache.get(1L, () -> detail(1L, "변경 후")).getName()).isEqualTo("변경 후");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictInvalidatesEntryOfThatStoreOnly() {
+        cache.get(1L, () -> detail(1L, "강남 순대국"));
+        cache.get(2L, () -> detail(2L, "홍대 파스타"));
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L, () -> detail(1L, "리뷰 반영")).getName()).isEqualTo("리뷰 반영");
+        assertThat(cache.get(2L, () -> detail(2L, "재조회")).getName()).isEqualTo("홍대 파스타");
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("store.detail.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void entryOlderThanProbedModifiedAtIsReloaded() {
+        cache.get(1L, UPDATED, () -> detail(1L, "다른 서버에서 변경 전", UPDATED));
+
+        LocalDateTime changed = UPDATED.plusSeconds(1);
+        assertThat(cache.get(1L, changed, () -> detail(1L, "변경 후", changed)).getName()).isEqualTo("변경 후");
+        assertThat(cache.get(1L, changed, () -> detail(1L, "재조회", changed)).getName()).isEqualTo("변경 후");
+        assertThat(cache.get(1L, UPDATED, () -> detail(1L, "재조회", UPDATED)).getName()).isEqualTo("변경 후");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loaderFailureIsPropagatedAndNotCached() {
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new RuntimeException("가게 정보를 찾을 수 없습니다.");
+        }))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("가게 정보를 찾을 수 없습니다.");
+
+        assertThat(cache.get(1L, () -> detail(1L, "강남 순대국")).getName()).isEqualTo("강남 순대국");
+    }
+
+
+    private StoreDetailCache.Detail detail(Long storeId, String name) {
+        return detail(storeId, name, UPDATED);
+    }
+
+    private StoreDetailCache.Detail detail(Long storeId, String name, LocalDateTime updatedAt) {
+        loads.incrementAndGet();
+        return new StoreDetailCache.Detail(updatedAt, StoreDto.StoreInfoResponse.builder()
+                .storeId(storeId)
+                .name(name)
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.common.lease.SchedulerLeaseManager;
+import com.ian.tablereservation.common.support.CallNotPermittedException;
+import com.ian.tablereservation.store.domain.StoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoreGeocodingWorkerTest {
+
+    private static final String ADDRESS = "서울 중구 세종대로 110";
+
+    private GeocodingService geocodingService;
+    private StoreRepository storeRepository;
+    private StoreGeocodingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        geocodingService = mock(GeocodingService.class);
+        storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findLocationsByStoreIdIn(anyCollection())).thenReturn(List.of());
+
+        worker = new StoreGeocodingWorker(
+                geocodingService,
+                storeRepository,
+                mock(StoreGeoIndex.class),
+                mock(StoreDetailCache.class),
+                mock(SchedulerLeaseManager.class),
+                mock(PlatformTransactionManager.class),
+                1,
+                1,
+                2,
+                1,
+                60_000
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+
+    @Test
+    void rejectedCallsDoNotCountAsAttempts() {
+        when(geocodingService.findCoordinates(ADDRESS))
+                .thenThrow(new CallNotPermittedException("차단"))
+                .thenThrow(new CallNotPermittedException("차단"))
+                .thenThrow(new CallNotPermittedException("차단"))
+                .thenReturn(Optional.of(new KakaoGeocodingApiService.LatLng(37.5663, 126.9779)));
+
+        worker.enqueue(1L, ADDRESS);
+
+        verify(storeRepository, timeout(5000))
+                .resolveCoordinates(anyCollection(), eq(ADDRESS), anyDouble(), anyDouble(), any());
+        verify(storeRepository, never()).markGeocodingFailed(anyCollection(), anyString(), any());
+    }
+
+    @Test
+    void failedCallsStillCountAsAttempts() {
+        when(geocodingService.findCoordinates(ADDRESS))
+                .thenThrow(new IllegalStateException("실패"));
+
+        worker.enqueue(1L, ADDRESS);
+
+        verify(storeRepository, timeout(5000)).markGeocodingFailed(anyCollection(), eq(ADDRESS), any());
+        verify(storeRepository, never())
+                .resolveCoordinates(anyCollection(), anyString(), anyDouble(), anyDouble(), any());
+    }
+}
@@ -0,0 +1,117 @@
+package com.ian.tablereservation.store.application;
+
+import com.ian.tablereservation.store.domain.StoreRepository;
+import com.ian.tablereservation.store.domain.StoreSearchView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreSearchIndexTest {
+
+    private StoreRepository storeRepository;
+    private StoreSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findSearchDocumentsAfter(anyLong(), any())).thenReturn(List.of());
+
+        index = new StoreSearchIndex(storeRepository);
+        index.rebuild();
+        index.put(1L, "강남 순대국", "서울 강남구 테헤란로 1", "진한 국물의 순대국 전문점");
+        index.put(2L, "홍대 파스타", "서울 마포구 와우산로 2", "강남에서 옮겨 온 파스타 가게");
+        index.put(3L, "순대 천국", "부산 해운대구 해운대로 3", "순대와 떡볶이");
+        index.put(4L, "Seoul Burger", "서울 강남구 역삼로 4", "수제 버거");
+    }
+
+
+    @Test
+    void matchesKoreanSubstringsAcrossFieldsAndRanksNameMatchesFirst() {
+        List<StoreSearchIndex.Hit> hits = index.search("강남", 10, null);
+
+        assertThat(hits).extracting(StoreSearchIndex.Hit::storeId).containsExactly(1L, 4L, 2L);
+        assertThat(index.search("순대", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(3L, 1L);
+        assertThat(index.search("떡볶", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void requiresEveryQueryTokenAndIgnoresCaseAndPunctuation() {
+        assertThat(index.search("강남 파스타", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(2L);
+        assertThat(index.search("SEOUL-burger!", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(4L);
+        assertThat(index.search("천", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(3L);
+        assertThat(index.search("없는가게", 10, null)).isEmpty();
+        assertThat(index.search("  ", 10, null)).isEmpty();
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovals() {
+        index.put(3L, "해운대 횟집", "부산 해운대구 해운대로 3", "활어회");
+        index.remove(1L);
+
+        assertThat(index.search("순대", 10, null)).isEmpty();
+        assertThat(index.search("횟집", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(3L);
+        assertThat(index.search("강남", 10, null)).extracting(StoreSearchIndex.Hit::storeId)
+                .containsExactly(4L, 2L);
+    }
+
+    @Test
+    void pagesThroughResultsAfterTheLastHit() {
+        for (long storeId = 100; storeId < 125; storeId++) {
+            index.put(storeId, "치킨 " + storeId + "호점", "서울 종로구", "");
+        }
+
+        List<StoreSearchIndex.Hit> first = index.search("치킨", 10, null);
+        List<StoreSearchIndex.Hit> second = index.search("치킨", 10, first.get(9));
+        List<StoreSearchIndex.Hit> third = index.search("치킨", 10, second.get(9));
+
+        assertThat(first).hasSize(10);
+        assertThat(second).hasSize(10);
+        assertThat(third).hasSize(5);
+        assertThat(first.get(0).storeId()).isEqualTo(100L);
+        assertThat(third.get(4).storeId()).isEqualTo(124L);
+        assertThat(second).extracting(StoreSearchIndex.Hit::storeId).doesNotContainAnyElementsOf(
+                first.stream().map(StoreSearchIndex.Hit::storeId).toList());
+    }
+
+    @Test
+    void refreshAppliesChangesMadeElsewhereAndKeepsUnchangedStores() {
+        List<StoreSearchView> stores = List.of(
+                view(1L, "강남 순대국", "서울 강남구 테헤란로 1", "진한 국물의 순대국 전문점"),
+                view(2L, "홍대 파스타", "서울 마포구 와우산로 2", "강남에서 옮겨 온 파스타 가게"),
+                view(3L, "해운대 횟집", "부산 해운대구 해운대로 3", "활어회"),
+                view(5L, "종로 냉면", "서울 종로구 종로 5", "평양냉면")
+        );
+        when(storeRepository.findSearchDocumentsAfter(anyLong(), any())).thenReturn(stores);
+
+        index.refresh();
+
+        assertThat(index.search("순대", 10, null)).extracting(StoreSearchIndex.Hit::storeId).containsExactly(1L);
+        assertThat(index.search("횟집", 10, null)).extracting(StoreSearchIndex.Hit::storeId).containsExactly(3L);
+        assertThat(index.search("냉면", 10, null)).extracting(StoreSearchIndex.Hit::storeId).containsExactly(5L);
+        assertThat(index.search("버거", 10, null)).isEmpty();
+    }
+
+
+    private static StoreSearchView view(Long storeId, String name, String address, String description) {
+        StoreSearchView view = mock(StoreSearchView.class);
+        when(view.getId()).thenReturn(storeId);
+        when(view.getStoreId()).thenReturn(storeId);
+        when(view.getName()).thenReturn(name);
+        when(view.getAddress()).thenReturn(address);
+        when(view.getDescription()).thenReturn(description);
+        return view;
+    }
+}
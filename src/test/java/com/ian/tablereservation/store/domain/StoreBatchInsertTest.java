@@ -0,0 +1,80 @@
+package com.ian.tablereservation.store.domain;
+
+import com.ian.tablereservation.common.base.IdSequenceAligner;
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.store.table.dto.StoreTableDto;
+import com.ian.tablereservation.support.JpaSliceTest;
+import com.ian.tablereservation.user.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.ian.tablereservation.support.TestFixtures.store;
+import static com.ian.tablereservation.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaSliceTest
+@Import(IdSequenceAligner.class)
+class StoreBatchInsertTest {
+
+    private static final int TABLES = 200;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IdSequenceAligner idSequenceAligner;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+
+    @Test
+    void storeWithManyTablesIsInsertedInBatches() {
+        User partner = em.persist(user("01000000000", Role.ROLE_PARTNER));
+        Store store = em.persist(store(1L, partner));
+
+        store.updateTables(IntStream.rangeClosed(1, TABLES)
+                .mapToObj(number -> StoreTableDto.builder().number(number).capacity(4).build())
+                .toList());
+        em.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TABLES + 2);
+        // 시퀀스 조회(50개 단위) + 테이블별 배치 INSERT
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(15);
+    }
+
+    @Test
+    void sequenceIsMovedPastExistingIds() {
+        em.getEntityManager()
+                .createNativeQuery("""
+                        insert into users (id, password, phone, name, role)
+                        values (10000, 'password', '01099999999', '이름', 'ROLE_USER')
+                        """)
+                .executeUpdate();
+
+        idSequenceAligner.align();
+        List<User> created = IntStream.range(0, 3)
+                .mapToObj(i -> em.persist(user("0100000000" + i, Role.ROLE_PARTNER)))
+                .toList();
+        em.flush();
+
+        assertThat(created).allSatisfy(user -> assertThat(user.getId()).isGreaterThan(10000L));
+    }
+}
@@ -0,0 +1,101 @@
+package com.ian.tablereservation.store.ui;
+
+import com.ian.tablereservation.common.dto.CursorPageResponse;
+import com.ian.tablereservation.store.application.StoreService;
+import com.ian.tablereservation.store.dto.StoreDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StoreControllerConditionalRequestTest {
+
+    private static final LocalDateTime MODIFIED = LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_456_000);
+
+    private StoreService storeService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        storeService = mock(StoreService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StoreController(storeService)).build();
+    }
+
+
+    @Test
+    void unchangedStoreDetailIsAnsweredWithoutLoadingStore() throws Exception {
+        when(storeService.getStoreModifiedAt(1L)).thenReturn(Optional.of(MODIFIED));
+        when(storeService.getStore(1L, MODIFIED)).thenReturn(StoreDto.StoreInfoResponse.builder().storeId(1L).name("가게").build());
+
+        String etag = mockMvc.perform(get("/stores/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/stores/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(storeService).getStore(1L, MODIFIED);
+    }
+
+    @Test
+    void modifiedStoreDetailIsReloaded() throws Exception {
+        when(storeService.getStoreModifiedAt(1L)).thenReturn(Optional.of(MODIFIED));
+        when(storeService.getStore(1L, MODIFIED)).thenReturn(StoreDto.StoreInfoResponse.builder().storeId(1L).name("가게").build());
+        String etag = mockMvc.perform(get("/stores/1")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(storeService.getStoreModifiedAt(1L)).thenReturn(Optional.of(MODIFIED.plusNanos(1_000)));
+        when(storeService.getStore(1L, MODIFIED.plusNanos(1_000)))
+                .thenReturn(StoreDto.StoreInfoResponse.builder().storeId(1L).name("바뀐 가게").build());
+        mockMvc.perform(get("/stores/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("바뀐 가게"));
+    }
+
+    @Test
+    void missingStoreSkipsConditionalCheck() throws Exception {
+        when(storeService.getStoreModifiedAt(1L)).thenReturn(Optional.empty());
+        when(storeService.getStore(1L, null)).thenThrow(new RuntimeException("가게 정보를 찾을 수 없습니다."));
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/stores/1").header(HttpHeaders.IF_NONE_MATCH, "\"stale\"")))
+                .hasRootCauseMessage("가게 정보를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void storePageETagChangesWhenAnyStoreOnPageChanges() throws Exception {
+        StoreDto.StoreResponse first = StoreDto.StoreResponse.builder().storeId(1L).updatedAt(MODIFIED).build();
+        StoreDto.StoreResponse second = StoreDto.StoreResponse.builder().storeId(2L).updatedAt(MODIFIED).build();
+        when(storeService.getSortStores(any(), any(), any(), any(), anyInt()))
+                .thenReturn(CursorPageResponse.of(List.of(first, second), "next"));
+
+        String etag = mockMvc.perform(get("/stores")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/stores").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        StoreDto.StoreResponse renamed = StoreDto.StoreResponse.builder()
+                .storeId(2L).updatedAt(MODIFIED.plusSeconds(1)).build();
+        when(storeService.getSortStores(any(), any(), any(), any(), anyInt()))
+                .thenReturn(CursorPageResponse.of(List.of(first, renamed), "next"));
+        mockMvc.perform(get("/stores").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        verify(storeService, never()).getStore(any(), any());
+    }
+}
@@ -0,0 +1,22 @@
+package com.ian.tablereservation.support;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 내장 H2로 JPA 슬라이스를 띄우는 리포지토리 테스트용 애너테이션입니다.
+ * 실행된 쿼리 수를 검증할 수 있도록 Hibernate 통계를 켭니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public @interface JpaSliceTest {
+}
@@ -0,0 +1,37 @@
+package com.ian.tablereservation.support;
+
+import com.ian.tablereservation.common.enums.Role;
+import com.ian.tablereservation.store.domain.Store;
+import com.ian.tablereservation.user.domain.User;
+
+import java.util.ArrayList;
+
+/**
+ * 리포지토리 테스트에서 공통으로 쓰는 엔티티를 만듭니다.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+
+    public static User user(String phone, Role role) {
+        return User.builder()
+                .phone(phone)
+                .password("password")
+                .name("이름")
+                .role(role)
+                .build();
+    }
+
+    public static Store store(Long storeId, User owner) {
+        return Store.builder()
+                .storeId(storeId)
+                .name("가게")
+                .address("서울 중구 세종대로 110")
+                .description("설명")
+                .user(owner)
+                .tables(new ArrayList<>())
+                .build();
+    }
+}